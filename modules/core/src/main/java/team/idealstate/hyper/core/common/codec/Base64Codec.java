@@ -0,0 +1,332 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.codec;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>Base64Codec</p>
+ *
+ * <p>面向大块数据的查表 Base64 编解码器，输出与 {@link java.util.Base64} 的标准及 URL 安全编解码器逐字节一致</p>
+ *
+ * <p>编码时每次读取 6 个字节组成一个字，通过 12 位到 2 个字符的查表一次输出 8 个字符；
+ * 解码时通过预先移位的表将 4 个字符合并为 24 位，任一字符无效时结果为负数，
+ * 遇到无效字符、填充或末尾单元时交由 {@link Base64Utils} 的逐字符实现处理，因此错误行为与 JDK 相同。
+ * 大块数据可以通过 {@code parallelEncode}/{@code parallelDecode} 在 {@link ForkJoinPool} 上分块处理。</p>
+ *
+ * <p>创建于 2026/10/18 19:00</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Base64Codec {
+
+    public static final int PARALLEL_THRESHOLD = 1024 * 1024;
+    private static final int ENCODE_CHUNK_SIZE = 3 * 64 * 1024;
+    private static final int DECODE_CHUNK_SIZE = 4 * 64 * 1024;
+    private static final Base64Codec BASIC = new Base64Codec(false);
+    private static final Base64Codec URL_SAFE = new Base64Codec(true);
+
+    private final boolean urlSafe;
+    private final byte[] alphabet;
+    private final byte[] pairs = new byte[4096 * 2];
+    private final int[] decode0 = new int[256];
+    private final int[] decode1 = new int[256];
+    private final int[] decode2 = new int[256];
+    private final int[] decode3 = new int[256];
+
+    private Base64Codec(boolean urlSafe) {
+        this.urlSafe = urlSafe;
+        this.alphabet = ("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789" + (urlSafe ? "-_" : "+/"))
+                .getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < 4096; i++) {
+            pairs[i << 1] = alphabet[i >>> 6];
+            pairs[i << 1 | 1] = alphabet[i & 0x3F];
+        }
+        Arrays.fill(decode0, -1);
+        Arrays.fill(decode1, -1);
+        Arrays.fill(decode2, -1);
+        Arrays.fill(decode3, -1);
+        for (int i = 0; i < alphabet.length; i++) {
+            decode0[alphabet[i]] = i << 18;
+            decode1[alphabet[i]] = i << 12;
+            decode2[alphabet[i]] = i << 6;
+            decode3[alphabet[i]] = i;
+        }
+    }
+
+    @NotNull
+    public static Base64Codec basic() {
+        return BASIC;
+    }
+
+    @NotNull
+    public static Base64Codec urlSafe() {
+        return URL_SAFE;
+    }
+
+    public boolean isUrlSafe() {
+        return urlSafe;
+    }
+
+    public int encodedLength(int length) {
+        return Base64Utils.encodedLength(length);
+    }
+
+    /**
+     * 校验末尾单元并返回解码后的确切字节数，中间的无效字符在解码时才会被发现。
+     */
+    public int decodedLength(byte @NotNull [] src, int offset, int length) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        checkRegion(src, offset, length);
+        final int tail = length == 0 ? 0 : (length - 1) % 4 + 1;
+        final ByteBuffer tailBuffer = ByteBuffer.wrap(src, offset + length - tail, tail);
+        return (length - tail) / 4 * 3
+                + (urlSafe ? Base64Utils.decodedLengthUrlSafe(tailBuffer) : Base64Utils.decodedLength(tailBuffer));
+    }
+
+    public byte[] encode(byte @NotNull [] src) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        final byte[] dst = new byte[encodedLength(src.length)];
+        encode(src, 0, src.length, dst, 0);
+        return dst;
+    }
+
+    /**
+     * @return 写入 {@code dst} 的字节数
+     */
+    public int encode(byte @NotNull [] src, int offset, int length, byte @NotNull [] dst, int dstOffset) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        AssertUtils.notNull(dst, "dst 不允许为 null");
+        checkRegion(src, offset, length);
+        final int required = encodedLength(length);
+        checkRegion(dst, dstOffset, required);
+        final byte[] pairs = this.pairs;
+        final int words = length / 6;
+        for (int i = 0; i < words; i++) {
+            final int s = offset + i * 6;
+            final int d = dstOffset + i * 8;
+            final long bits = (src[s] & 0xFFL) << 40
+                    | (src[s + 1] & 0xFFL) << 32
+                    | (src[s + 2] & 0xFFL) << 24
+                    | (src[s + 3] & 0xFFL) << 16
+                    | (src[s + 4] & 0xFFL) << 8
+                    | (src[s + 5] & 0xFFL);
+            final int i0 = (int) (bits >>> 35) & 0x1FFE;
+            final int i1 = (int) (bits >>> 23) & 0x1FFE;
+            final int i2 = (int) (bits >>> 11) & 0x1FFE;
+            final int i3 = (int) (bits << 1) & 0x1FFE;
+            dst[d] = pairs[i0];
+            dst[d + 1] = pairs[i0 + 1];
+            dst[d + 2] = pairs[i1];
+            dst[d + 3] = pairs[i1 + 1];
+            dst[d + 4] = pairs[i2];
+            dst[d + 5] = pairs[i2 + 1];
+            dst[d + 6] = pairs[i3];
+            dst[d + 7] = pairs[i3 + 1];
+        }
+        int sp = offset + words * 6;
+        int dp = dstOffset + words * 8;
+        final int end = offset + length;
+        if (end - sp >= 3) {
+            final int bits = (src[sp] & 0xFF) << 16 | (src[sp + 1] & 0xFF) << 8 | (src[sp + 2] & 0xFF);
+            final int i0 = bits >>> 11 & 0x1FFE;
+            final int i1 = bits << 1 & 0x1FFE;
+            dst[dp] = pairs[i0];
+            dst[dp + 1] = pairs[i0 + 1];
+            dst[dp + 2] = pairs[i1];
+            dst[dp + 3] = pairs[i1 + 1];
+            sp += 3;
+            dp += 4;
+        }
+        if (sp < end) {
+            final int b0 = src[sp] & 0xFF;
+            dst[dp] = alphabet[b0 >>> 2];
+            if (sp + 1 == end) {
+                dst[dp + 1] = alphabet[(b0 << 4) & 0x3F];
+                dst[dp + 2] = '=';
+            } else {
+                final int b1 = src[sp + 1] & 0xFF;
+                dst[dp + 1] = alphabet[(b0 << 4 | b1 >>> 4) & 0x3F];
+                dst[dp + 2] = alphabet[(b1 << 2) & 0x3F];
+            }
+            dst[dp + 3] = '=';
+        }
+        return required;
+    }
+
+    public byte[] decode(byte @NotNull [] src) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        final byte[] dst = new byte[decodedLength(src, 0, src.length)];
+        decode(src, 0, src.length, dst, 0);
+        return dst;
+    }
+
+    /**
+     * @return 写入 {@code dst} 的字节数
+     */
+    public int decode(byte @NotNull [] src, int offset, int length, byte @NotNull [] dst, int dstOffset) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        AssertUtils.notNull(dst, "dst 不允许为 null");
+        checkRegion(src, offset, length);
+        checkRegion(dst, dstOffset, 0);
+        AssertUtils.isTrue(dst.length - dstOffset >= decodedLength(src, offset, length), "dst 剩余空间不足");
+        final int end = offset + length;
+        final int sp = decodeBlock(src, offset, end - 1, dst, dstOffset);
+        final int dp = dstOffset + (sp - offset) / 4 * 3;
+        final ByteBuffer rest = ByteBuffer.wrap(src, sp, end - sp);
+        final ByteBuffer out = ByteBuffer.wrap(dst, dp, dst.length - dp);
+        return dp - dstOffset + (urlSafe ? Base64Utils.decodeUrlSafe(rest, out) : Base64Utils.decode(rest, out));
+    }
+
+    public byte[] parallelEncode(byte @NotNull [] src) {
+        return parallelEncode(src, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 输入不小于 {@link #PARALLEL_THRESHOLD} 时按 3 字节对齐分块并行编码，结果与 {@link #encode(byte[])} 相同。
+     */
+    public byte[] parallelEncode(byte @NotNull [] src, @NotNull ForkJoinPool pool) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        AssertUtils.notNull(pool, "pool 不允许为 null");
+        if (src.length < PARALLEL_THRESHOLD) {
+            return encode(src);
+        }
+        final byte[] dst = new byte[encodedLength(src.length)];
+        pool.invoke(new CodecTask(this, true, src, dst, 0, (src.length + ENCODE_CHUNK_SIZE - 1) / ENCODE_CHUNK_SIZE));
+        return dst;
+    }
+
+    public byte[] parallelDecode(byte @NotNull [] src) {
+        return parallelDecode(src, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 输入不小于 {@link #PARALLEL_THRESHOLD} 时按 4 字符对齐分块并行解码，结果与 {@link #decode(byte[])} 相同。
+     */
+    public byte[] parallelDecode(byte @NotNull [] src, @NotNull ForkJoinPool pool) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        AssertUtils.notNull(pool, "pool 不允许为 null");
+        if (src.length < PARALLEL_THRESHOLD) {
+            return decode(src);
+        }
+        final byte[] dst = new byte[decodedLength(src, 0, src.length)];
+        pool.invoke(new CodecTask(this, false, src, dst, 0, (src.length + DECODE_CHUNK_SIZE - 1) / DECODE_CHUNK_SIZE));
+        return dst;
+    }
+
+    /**
+     * 以 4 个字符为单位解码 {@code [sp, limit)}，遇到无效字符或填充时停止。
+     *
+     * @return 停止时的位置
+     */
+    private int decodeBlock(byte @NotNull [] src, int sp, int limit, byte @NotNull [] dst, int dp) {
+        final int[] decode0 = this.decode0;
+        final int[] decode1 = this.decode1;
+        final int[] decode2 = this.decode2;
+        final int[] decode3 = this.decode3;
+        while (limit - sp >= 8) {
+            final int bits0 = decode0[src[sp] & 0xFF] | decode1[src[sp + 1] & 0xFF]
+                    | decode2[src[sp + 2] & 0xFF] | decode3[src[sp + 3] & 0xFF];
+            final int bits1 = decode0[src[sp + 4] & 0xFF] | decode1[src[sp + 5] & 0xFF]
+                    | decode2[src[sp + 6] & 0xFF] | decode3[src[sp + 7] & 0xFF];
+            if ((bits0 | bits1) < 0) {
+                break;
+            }
+            dst[dp] = (byte) (bits0 >>> 16);
+            dst[dp + 1] = (byte) (bits0 >>> 8);
+            dst[dp + 2] = (byte) bits0;
+            dst[dp + 3] = (byte) (bits1 >>> 16);
+            dst[dp + 4] = (byte) (bits1 >>> 8);
+            dst[dp + 5] = (byte) bits1;
+            sp += 8;
+            dp += 6;
+        }
+        while (limit - sp >= 4) {
+            final int bits = decode0[src[sp] & 0xFF] | decode1[src[sp + 1] & 0xFF]
+                    | decode2[src[sp + 2] & 0xFF] | decode3[src[sp + 3] & 0xFF];
+            if (bits < 0) {
+                break;
+            }
+            dst[dp] = (byte) (bits >>> 16);
+            dst[dp + 1] = (byte) (bits >>> 8);
+            dst[dp + 2] = (byte) bits;
+            sp += 4;
+            dp += 3;
+        }
+        return sp;
+    }
+
+    private static void checkRegion(byte @NotNull [] array, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+    }
+
+    private static final class CodecTask extends RecursiveAction {
+
+        private static final long serialVersionUID = -3905736117489712040L;
+
+        private final Base64Codec codec;
+        private final boolean encode;
+        private final byte[] src;
+        private final byte[] dst;
+        private final int from;
+        private final int to;
+
+        private CodecTask(Base64Codec codec, boolean encode, byte[] src, byte[] dst, int from, int to) {
+            this.codec = codec;
+            this.encode = encode;
+            this.src = src;
+            this.dst = dst;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                if (encode) {
+                    final int offset = from * ENCODE_CHUNK_SIZE;
+                    codec.encode(src, offset, Math.min(ENCODE_CHUNK_SIZE, src.length - offset), dst, offset / 3 * 4);
+                    return;
+                }
+                final int offset = from * DECODE_CHUNK_SIZE;
+                final int length = Math.min(DECODE_CHUNK_SIZE, src.length - offset);
+                final int dstOffset = offset / 4 * 3;
+                if (offset + length == src.length) {
+                    codec.decode(src, offset, length, dst, dstOffset);
+                } else if (codec.decodeBlock(src, offset, offset + length, dst, dstOffset) != offset + length) {
+                    throw new IllegalArgumentException("Base64 数据包含非法字符或位于中间的填充");
+                }
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new CodecTask(codec, encode, src, dst, from, middle),
+                    new CodecTask(codec, encode, src, dst, middle, to));
+        }
+    }
+}
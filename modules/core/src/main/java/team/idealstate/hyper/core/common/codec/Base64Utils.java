@@ -17,21 +17,45 @@
 
 package team.idealstate.hyper.core.common.codec;
 
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
 
 /**
  * <p>Base64Utils</p>
  *
+ * <p>{@link ByteBuffer} 版本的编解码直接写入调用者提供的缓冲区（可以是直接缓冲区），
+ * 不分配中间数组，输出与 {@link Base64} 对应的编解码器逐字节一致。</p>
+ *
  * <p>创建于 2024/1/22 16:25</p>
  *
  * @author ketikai
- * @version 1.0.0
+ * @version 1.0.1
  * @since 1.0.0
  */
 public abstract class Base64Utils {
 
     private static final Base64.Encoder ENCODER = Base64.getEncoder();
     private static final Base64.Decoder DECODER = Base64.getDecoder();
+    private static final Base64.Encoder URL_ENCODER = Base64.getUrlEncoder();
+    private static final Base64.Decoder URL_DECODER = Base64.getUrlDecoder();
+    private static final Base64.Encoder MIME_ENCODER = Base64.getMimeEncoder();
+    private static final Base64.Decoder MIME_DECODER = Base64.getMimeDecoder();
+    private static final int MIME_LINE_LENGTH = 76;
+    private static final byte[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] URL_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final int INVALID = -1;
+    private static final int PADDING = -2;
+    private static final int[] DECODE_TABLE = decodeTable(ALPHABET);
+    private static final int[] URL_DECODE_TABLE = decodeTable(URL_ALPHABET);
 
     public static byte[] encode(byte[] data) {
         return ENCODER.encode(data);
@@ -40,4 +64,263 @@ public abstract class Base64Utils {
     public static byte[] decode(byte[] data) {
         return DECODER.decode(data);
     }
+
+    public static byte[] encodeUrlSafe(byte[] data) {
+        return URL_ENCODER.encode(data);
+    }
+
+    public static byte[] decodeUrlSafe(byte[] data) {
+        return URL_DECODER.decode(data);
+    }
+
+    public static byte[] encodeMime(byte[] data) {
+        return MIME_ENCODER.encode(data);
+    }
+
+    public static byte[] decodeMime(byte[] data) {
+        return MIME_DECODER.decode(data);
+    }
+
+    /**
+     * 将 {@code src} 的剩余内容编码写入 {@code dst}，两者的位置均会前移。
+     * {@code dst} 剩余空间不足 {@link #encodedLength(int)} 时不做任何修改并抛出异常。
+     *
+     * @return 写入 {@code dst} 的字节数
+     */
+    public static int encode(@NotNull ByteBuffer src, @NotNull ByteBuffer dst) {
+        return encode(src, dst, ALPHABET, false);
+    }
+
+    public static int encodeUrlSafe(@NotNull ByteBuffer src, @NotNull ByteBuffer dst) {
+        return encode(src, dst, URL_ALPHABET, false);
+    }
+
+    public static int encodeMime(@NotNull ByteBuffer src, @NotNull ByteBuffer dst) {
+        return encode(src, dst, ALPHABET, true);
+    }
+
+    /**
+     * 将 {@code src} 的剩余内容解码写入 {@code dst}，两者的位置均会前移。
+     * 输入无效或 {@code dst} 剩余空间不足时不做任何修改并抛出异常。
+     *
+     * @return 写入 {@code dst} 的字节数
+     */
+    public static int decode(@NotNull ByteBuffer src, @NotNull ByteBuffer dst) {
+        return decode(src, dst, DECODE_TABLE, false);
+    }
+
+    public static int decodeUrlSafe(@NotNull ByteBuffer src, @NotNull ByteBuffer dst) {
+        return decode(src, dst, URL_DECODE_TABLE, false);
+    }
+
+    public static int decodeMime(@NotNull ByteBuffer src, @NotNull ByteBuffer dst) {
+        return decode(src, dst, DECODE_TABLE, true);
+    }
+
+    /**
+     * @return 编码 {@code length} 个字节所需的确切字节数（含填充）
+     */
+    public static int encodedLength(int length) {
+        return encodedLength(length, false);
+    }
+
+    /**
+     * @param mime 为 {@code true} 时计入 MIME 编码的换行符
+     */
+    public static int encodedLength(int length, boolean mime) {
+        AssertUtils.isTrue(length >= 0, "length 不允许为负数");
+        final long encoded = 4L * ((length + 2L) / 3);
+        final long total = mime && encoded > 0 ? encoded + 2 * ((encoded - 1) / MIME_LINE_LENGTH) : encoded;
+        AssertUtils.isTrue(total <= Integer.MAX_VALUE, "length 过大");
+        return (int) total;
+    }
+
+    /**
+     * 校验 {@code src} 的剩余内容并返回其解码后的确切字节数，不改变其位置。
+     */
+    public static int decodedLength(@NotNull ByteBuffer src) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        return decodeRemaining(src, null, DECODE_TABLE, false);
+    }
+
+    public static int decodedLengthUrlSafe(@NotNull ByteBuffer src) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        return decodeRemaining(src, null, URL_DECODE_TABLE, false);
+    }
+
+    public static int decodedLengthMime(@NotNull ByteBuffer src) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        return decodeRemaining(src, null, DECODE_TABLE, true);
+    }
+
+    /**
+     * 写入返回流的数据会被编码后写入 {@code out}，关闭返回流时写出剩余的填充并关闭 {@code out}。
+     */
+    @NotNull
+    public static OutputStream wrap(@NotNull OutputStream out) {
+        return ENCODER.wrap(out);
+    }
+
+    @NotNull
+    public static OutputStream wrapUrlSafe(@NotNull OutputStream out) {
+        return URL_ENCODER.wrap(out);
+    }
+
+    @NotNull
+    public static OutputStream wrapMime(@NotNull OutputStream out) {
+        return MIME_ENCODER.wrap(out);
+    }
+
+    /**
+     * 从返回流读取的数据为 {@code in} 中 Base64 内容解码后的结果。
+     */
+    @NotNull
+    public static InputStream wrap(@NotNull InputStream in) {
+        return DECODER.wrap(in);
+    }
+
+    @NotNull
+    public static InputStream wrapUrlSafe(@NotNull InputStream in) {
+        return URL_DECODER.wrap(in);
+    }
+
+    @NotNull
+    public static InputStream wrapMime(@NotNull InputStream in) {
+        return MIME_DECODER.wrap(in);
+    }
+
+    private static int encode(@NotNull ByteBuffer src, @NotNull ByteBuffer dst, byte @NotNull [] alphabet, boolean mime) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        AssertUtils.notNull(dst, "dst 不允许为 null");
+        final int length = src.remaining();
+        final int required = encodedLength(length, mime);
+        AssertUtils.isTrue(dst.remaining() >= required, "dst 剩余空间不足，需要 %s 个字节", required);
+        int sp = src.position();
+        final int end = sp + length;
+        final int fullEnd = end - length % 3;
+        int dp = dst.position();
+        int lineLength = 0;
+        while (sp < fullEnd) {
+            if (mime && lineLength == MIME_LINE_LENGTH) {
+                dst.put(dp++, (byte) '\r');
+                dst.put(dp++, (byte) '\n');
+                lineLength = 0;
+            }
+            final int bits = (src.get(sp++) & 0xFF) << 16 | (src.get(sp++) & 0xFF) << 8 | (src.get(sp++) & 0xFF);
+            dst.put(dp++, alphabet[bits >>> 18]);
+            dst.put(dp++, alphabet[(bits >>> 12) & 0x3F]);
+            dst.put(dp++, alphabet[(bits >>> 6) & 0x3F]);
+            dst.put(dp++, alphabet[bits & 0x3F]);
+            lineLength += 4;
+        }
+        if (sp < end) {
+            if (mime && lineLength == MIME_LINE_LENGTH) {
+                dst.put(dp++, (byte) '\r');
+                dst.put(dp++, (byte) '\n');
+            }
+            final int b0 = src.get(sp++) & 0xFF;
+            dst.put(dp++, alphabet[b0 >>> 2]);
+            if (sp == end) {
+                dst.put(dp++, alphabet[(b0 << 4) & 0x3F]);
+                dst.put(dp++, (byte) '=');
+            } else {
+                final int b1 = src.get(sp++) & 0xFF;
+                dst.put(dp++, alphabet[(b0 << 4 | b1 >>> 4) & 0x3F]);
+                dst.put(dp++, alphabet[(b1 << 2) & 0x3F]);
+            }
+            dst.put(dp++, (byte) '=');
+        }
+        src.position(end);
+        dst.position(dp);
+        return required;
+    }
+
+    private static int decode(@NotNull ByteBuffer src, @NotNull ByteBuffer dst, int @NotNull [] table, boolean mime) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        AssertUtils.notNull(dst, "dst 不允许为 null");
+        final int required = decodeRemaining(src, null, table, mime);
+        AssertUtils.isTrue(dst.remaining() >= required, "dst 剩余空间不足，需要 %s 个字节", required);
+        decodeRemaining(src, dst, table, mime);
+        src.position(src.limit());
+        dst.position(dst.position() + required);
+        return required;
+    }
+
+    /**
+     * 按 {@link Base64.Decoder} 的规则校验并解码，{@code dst} 为 {@code null} 时只计算长度，不改变缓冲区位置。
+     */
+    private static int decodeRemaining(@NotNull ByteBuffer src, ByteBuffer dst, int @NotNull [] table, boolean mime) {
+        final int end = src.limit();
+        int sp = src.position();
+        int dp = dst == null ? 0 : dst.position();
+        int count = 0;
+        int bits = 0;
+        int pending = 0;
+        while (sp < end) {
+            final int b = src.get(sp++) & 0xFF;
+            final int value = table[b];
+            if (value >= 0) {
+                bits = bits << 6 | value;
+                if (++pending == 4) {
+                    if (dst != null) {
+                        dst.put(dp++, (byte) (bits >>> 16));
+                        dst.put(dp++, (byte) (bits >>> 8));
+                        dst.put(dp++, (byte) bits);
+                    }
+                    count += 3;
+                    bits = 0;
+                    pending = 0;
+                }
+                continue;
+            }
+            if (value == PADDING) {
+                if (pending < 2 || (pending == 2 && (sp == end || src.get(sp++) != '='))) {
+                    throw new IllegalArgumentException("Base64 数据的结尾无效");
+                }
+                checkTrailing(src, sp, end, table, mime);
+                break;
+            }
+            if (!mime) {
+                throw new IllegalArgumentException("Base64 数据包含非法字符 " + Integer.toHexString(b));
+            }
+        }
+        switch (pending) {
+            case 1:
+                throw new IllegalArgumentException("Base64 数据的结尾无效");
+            case 2:
+                if (dst != null) {
+                    dst.put(dp, (byte) (bits >>> 4));
+                }
+                count += 1;
+                break;
+            case 3:
+                if (dst != null) {
+                    dst.put(dp++, (byte) (bits >>> 10));
+                    dst.put(dp, (byte) (bits >>> 2));
+                }
+                count += 2;
+                break;
+            default:
+                break;
+        }
+        return count;
+    }
+
+    private static void checkTrailing(@NotNull ByteBuffer src, int sp, int end, int @NotNull [] table, boolean mime) {
+        while (sp < end) {
+            if (!mime || table[src.get(sp++) & 0xFF] >= 0) {
+                throw new IllegalArgumentException("Base64 数据在填充之后仍有内容");
+            }
+        }
+    }
+
+    private static int[] decodeTable(byte @NotNull [] alphabet) {
+        final int[] table = new int[256];
+        Arrays.fill(table, INVALID);
+        for (int i = 0; i < alphabet.length; i++) {
+            table[alphabet[i]] = i;
+        }
+        table['='] = PADDING;
+        return table;
+    }
 }
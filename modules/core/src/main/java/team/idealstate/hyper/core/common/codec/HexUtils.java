@@ -0,0 +1,221 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.codec;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * <p>HexUtils</p>
+ *
+ * <p>十六进制编解码，数组与 {@link ByteBuffer} 版本直接读写调用者提供的区域，不分配中间数组</p>
+ *
+ * <p>创建于 2026/10/18 19:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class HexUtils {
+
+    private static final byte[] DIGITS = {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+    private static final byte[] UPPER_DIGITS = {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+    };
+    private static final int[] DECODE_TABLE = new int[128];
+    private static final int DUMP_LINE_SIZE = 16;
+
+    static {
+        Arrays.fill(DECODE_TABLE, -1);
+        for (int i = 0; i < 16; i++) {
+            DECODE_TABLE[DIGITS[i]] = i;
+            DECODE_TABLE[UPPER_DIGITS[i]] = i;
+        }
+    }
+
+    @NotNull
+    public static String encode(byte @NotNull [] data) {
+        return encode(data, false);
+    }
+
+    @NotNull
+    public static String encode(byte @NotNull [] data, boolean upperCase) {
+        AssertUtils.notNull(data, "data 不允许为 null");
+        final byte[] digits = upperCase ? UPPER_DIGITS : DIGITS;
+        final char[] chars = new char[data.length * 2];
+        for (int i = 0; i < data.length; i++) {
+            final int b = data[i] & 0xFF;
+            chars[i << 1] = (char) digits[b >>> 4];
+            chars[i << 1 | 1] = (char) digits[b & 0x0F];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 将 {@code src} 中的 {@code length} 个字节编码为 ASCII 十六进制字符写入 {@code dst}。
+     *
+     * @return 写入 {@code dst} 的字节数
+     */
+    public static int encode(byte @NotNull [] src, int offset, int length, byte @NotNull [] dst, int dstOffset) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        AssertUtils.notNull(dst, "dst 不允许为 null");
+        checkRegion(src.length, offset, length);
+        checkRegion(dst.length, dstOffset, length * 2);
+        for (int i = 0; i < length; i++) {
+            final int b = src[offset + i] & 0xFF;
+            dst[dstOffset + (i << 1)] = DIGITS[b >>> 4];
+            dst[dstOffset + (i << 1) + 1] = DIGITS[b & 0x0F];
+        }
+        return length * 2;
+    }
+
+    /**
+     * 将 {@code src} 的剩余内容编码写入 {@code dst}，两者的位置均会前移。
+     *
+     * @return 写入 {@code dst} 的字节数
+     */
+    public static int encode(@NotNull ByteBuffer src, @NotNull ByteBuffer dst) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        AssertUtils.notNull(dst, "dst 不允许为 null");
+        final int length = src.remaining();
+        AssertUtils.isTrue(dst.remaining() >= length * 2L, "dst 剩余空间不足");
+        final int sp = src.position();
+        int dp = dst.position();
+        for (int i = 0; i < length; i++) {
+            final int b = src.get(sp + i) & 0xFF;
+            dst.put(dp++, DIGITS[b >>> 4]);
+            dst.put(dp++, DIGITS[b & 0x0F]);
+        }
+        src.position(sp + length);
+        dst.position(dp);
+        return length * 2;
+    }
+
+    public static byte[] decode(@NotNull CharSequence hex) {
+        AssertUtils.notNull(hex, "hex 不允许为 null");
+        final int length = hex.length();
+        AssertUtils.isTrue((length & 1) == 0, "十六进制字符串的长度必须为偶数");
+        final byte[] result = new byte[length / 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) (digit(hex.charAt(i << 1)) << 4 | digit(hex.charAt(i << 1 | 1)));
+        }
+        return result;
+    }
+
+    /**
+     * 将 {@code src} 中的 {@code length} 个 ASCII 十六进制字符解码写入 {@code dst}，大小写均可。
+     *
+     * @return 写入 {@code dst} 的字节数
+     */
+    public static int decode(byte @NotNull [] src, int offset, int length, byte @NotNull [] dst, int dstOffset) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        AssertUtils.notNull(dst, "dst 不允许为 null");
+        AssertUtils.isTrue((length & 1) == 0, "十六进制字符串的长度必须为偶数");
+        checkRegion(src.length, offset, length);
+        final int count = length / 2;
+        checkRegion(dst.length, dstOffset, count);
+        for (int i = 0; i < count; i++) {
+            dst[dstOffset + i] = (byte) (digit(src[offset + (i << 1)]) << 4 | digit(src[offset + (i << 1) + 1]));
+        }
+        return count;
+    }
+
+    /**
+     * 将 {@code src} 的剩余内容解码写入 {@code dst}，两者的位置均会前移。
+     *
+     * @return 写入 {@code dst} 的字节数
+     */
+    public static int decode(@NotNull ByteBuffer src, @NotNull ByteBuffer dst) {
+        AssertUtils.notNull(src, "src 不允许为 null");
+        AssertUtils.notNull(dst, "dst 不允许为 null");
+        final int length = src.remaining();
+        AssertUtils.isTrue((length & 1) == 0, "十六进制字符串的长度必须为偶数");
+        final int count = length / 2;
+        AssertUtils.isTrue(dst.remaining() >= count, "dst 剩余空间不足");
+        int sp = src.position();
+        final int dp = dst.position();
+        for (int i = 0; i < count; i++) {
+            dst.put(dp + i, (byte) (digit(src.get(sp++)) << 4 | digit(src.get(sp++))));
+        }
+        src.position(sp);
+        dst.position(dp + count);
+        return count;
+    }
+
+    @NotNull
+    public static String dump(byte @NotNull [] data) {
+        AssertUtils.notNull(data, "data 不允许为 null");
+        return dump(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * 以每行 16 个字节的格式输出 {@code data} 剩余内容的偏移量、十六进制与可打印字符，不改变其位置。
+     */
+    @NotNull
+    public static String dump(@NotNull ByteBuffer data) {
+        AssertUtils.notNull(data, "data 不允许为 null");
+        final int start = data.position();
+        final int end = data.limit();
+        final StringBuilder builder = new StringBuilder((end - start + DUMP_LINE_SIZE - 1) / DUMP_LINE_SIZE * 78);
+        for (int line = start; line < end; line += DUMP_LINE_SIZE) {
+            final int offset = line - start;
+            for (int shift = 28; shift >= 0; shift -= 4) {
+                builder.append((char) DIGITS[(offset >>> shift) & 0x0F]);
+            }
+            builder.append("  ");
+            final int lineEnd = Math.min(line + DUMP_LINE_SIZE, end);
+            for (int i = line; i < line + DUMP_LINE_SIZE; i++) {
+                if (i < lineEnd) {
+                    final int b = data.get(i) & 0xFF;
+                    builder.append((char) DIGITS[b >>> 4]).append((char) DIGITS[b & 0x0F]).append(' ');
+                } else {
+                    builder.append("   ");
+                }
+                if (i - line == 7) {
+                    builder.append(' ');
+                }
+            }
+            builder.append(" |");
+            for (int i = line; i < lineEnd; i++) {
+                final int b = data.get(i) & 0xFF;
+                builder.append(b >= 0x20 && b < 0x7F ? (char) b : '.');
+            }
+            builder.append("|\n");
+        }
+        return builder.toString();
+    }
+
+    private static int digit(int c) {
+        final int value = c < 128 && c >= 0 ? DECODE_TABLE[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("无效的十六进制字符 '" + (char) c + "'");
+        }
+        return value;
+    }
+
+    private static void checkRegion(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array length: " + arrayLength);
+        }
+    }
+}
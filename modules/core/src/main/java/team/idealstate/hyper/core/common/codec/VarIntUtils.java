@@ -0,0 +1,217 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.codec;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>VarIntUtils</p>
+ *
+ * <p>LEB128 变长整数与 zig-zag 编码，格式与 Minecraft 协议的 VarInt/VarLong 相同</p>
+ *
+ * <p>无符号编码中负数总是占满 5 或 10 个字节，有符号的 {@code Signed} 版本先做 zig-zag 变换，
+ * 使绝对值较小的负数同样编码得较短。{@link ByteBuffer} 版本使用相对读写，数组版本返回写入的字节数，
+ * 读取时可通过 {@link #varIntLength(byte[], int)} 获得实际占用的字节数。</p>
+ *
+ * <p>创建于 2026/10/18 19:55</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class VarIntUtils {
+
+    public static final int MAX_VAR_INT_SIZE = 5;
+    public static final int MAX_VAR_LONG_SIZE = 10;
+
+    public static int encodeZigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    public static long encodeZigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    public static int decodeZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public static long decodeZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public static int varIntSize(int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    public static int varLongSize(long value) {
+        return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    public static void writeVarInt(@NotNull ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) (value | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public static void writeVarLong(@NotNull ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) (value | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public static void writeSignedVarInt(@NotNull ByteBuffer buffer, int value) {
+        writeVarInt(buffer, encodeZigZag(value));
+    }
+
+    public static void writeSignedVarLong(@NotNull ByteBuffer buffer, long value) {
+        writeVarLong(buffer, encodeZigZag(value));
+    }
+
+    /**
+     * @return 写入的字节数
+     */
+    public static int writeVarInt(byte @NotNull [] buffer, int offset, int value) {
+        int position = offset;
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position - offset;
+    }
+
+    /**
+     * @return 写入的字节数
+     */
+    public static int writeVarLong(byte @NotNull [] buffer, int offset, long value) {
+        int position = offset;
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position - offset;
+    }
+
+    public static int writeSignedVarInt(byte @NotNull [] buffer, int offset, int value) {
+        return writeVarInt(buffer, offset, encodeZigZag(value));
+    }
+
+    public static int writeSignedVarLong(byte @NotNull [] buffer, int offset, long value) {
+        return writeVarLong(buffer, offset, encodeZigZag(value));
+    }
+
+    public static int readVarInt(@NotNull ByteBuffer buffer) {
+        int b = buffer.get();
+        if (b >= 0) {
+            return b;
+        }
+        int value = b & 0x7F;
+        for (int shift = 7; shift < 35; shift += 7) {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("VarInt 超过 " + MAX_VAR_INT_SIZE + " 个字节");
+    }
+
+    public static long readVarLong(@NotNull ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final int b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("VarLong 超过 " + MAX_VAR_LONG_SIZE + " 个字节");
+    }
+
+    public static int readSignedVarInt(@NotNull ByteBuffer buffer) {
+        return decodeZigZag(readVarInt(buffer));
+    }
+
+    public static long readSignedVarLong(@NotNull ByteBuffer buffer) {
+        return decodeZigZag(readVarLong(buffer));
+    }
+
+    public static int readVarInt(byte @NotNull [] buffer, int offset) {
+        int b = buffer[offset];
+        if (b >= 0) {
+            return b;
+        }
+        int value = b & 0x7F;
+        for (int shift = 7; shift < 35; shift += 7) {
+            b = buffer[++offset];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("VarInt 超过 " + MAX_VAR_INT_SIZE + " 个字节");
+    }
+
+    public static long readVarLong(byte @NotNull [] buffer, int offset) {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final int b = buffer[offset++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("VarLong 超过 " + MAX_VAR_LONG_SIZE + " 个字节");
+    }
+
+    public static int readSignedVarInt(byte @NotNull [] buffer, int offset) {
+        return decodeZigZag(readVarInt(buffer, offset));
+    }
+
+    public static long readSignedVarLong(byte @NotNull [] buffer, int offset) {
+        return decodeZigZag(readVarLong(buffer, offset));
+    }
+
+    /**
+     * @return {@code offset} 处的 VarInt 实际占用的字节数，可能大于其数值的最短编码长度
+     */
+    public static int varIntLength(byte @NotNull [] buffer, int offset) {
+        return length(buffer, offset, MAX_VAR_INT_SIZE);
+    }
+
+    public static int varLongLength(byte @NotNull [] buffer, int offset) {
+        return length(buffer, offset, MAX_VAR_LONG_SIZE);
+    }
+
+    private static int length(byte @NotNull [] buffer, int offset, int maxSize) {
+        for (int i = 0; i < maxSize; i++) {
+            if (buffer[offset + i] >= 0) {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("变长整数超过 " + maxSize + " 个字节");
+    }
+}
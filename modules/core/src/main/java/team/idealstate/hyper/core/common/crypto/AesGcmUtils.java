@@ -0,0 +1,383 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.crypto;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.GeneralSecurityException;
+
+/**
+ * <p>AesGcmUtils</p>
+ *
+ * <p>AES-GCM 认证加密，支持单条消息与分段帧格式的流式加解密</p>
+ *
+ * <p>流格式：头部为魔数 {@code HGCM}、版本号、段大小与 8 字节随机数前缀；
+ * 之后每一帧为 4 字节长度（最高位标记末帧）与该段的密文及认证标签。
+ * 每段的随机数由前缀与段序号组成，末帧标记参与认证，首帧同时认证整个头部，
+ * 因此头部无法被篡改，段之间无法被重排、截断或拼接，且各段可以独立解密。</p>
+ *
+ * <p>创建于 2026/10/18 16:10</p>
+ *
+ * @author ketikai
+ * @version 1.0.5
+ * @since 1.0.0
+ */
+public abstract class AesGcmUtils {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024;
+    public static final int MIN_SEGMENT_SIZE = 1024;
+    public static final int MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    static final String ALGORITHM = "AES";
+    static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    static final int NONCE_SIZE = 12;
+    static final int TAG_SIZE = 16;
+    static final int NONCE_PREFIX_SIZE = 8;
+    static final int HEADER_SIZE = 4 + 1 + 4 + NONCE_PREFIX_SIZE;
+    static final int FRAME_HEADER_SIZE = 4;
+    private static final int MAGIC = 0x4847434D;
+    private static final byte VERSION = 1;
+    private static final int FINAL_FLAG = 0x80000000;
+    private static final byte[] FINAL_AAD = {1};
+    private static final byte[] NON_FINAL_AAD = {0};
+
+    public static byte[] encrypt(byte @NotNull [] key, byte @NotNull [] data) {
+        return encrypt(key, data, null);
+    }
+
+    public static byte[] encrypt(byte @NotNull [] key, byte @NotNull [] data, byte[] aad) {
+        AssertUtils.notNull(key, "key 不允许为 null");
+        AssertUtils.notNull(data, "data 不允许为 null");
+        final byte[] nonce = new byte[NONCE_SIZE];
+        SecureRandomUtils.getSecureRandom().nextBytes(nonce);
+        try {
+            final Cipher cipher = CipherPool.acquire(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, ALGORITHM), new GCMParameterSpec(TAG_SIZE * 8, nonce));
+            if (aad != null) {
+                cipher.updateAAD(aad);
+            }
+            final byte[] result = new byte[NONCE_SIZE + cipher.getOutputSize(data.length)];
+            System.arraycopy(nonce, 0, result, 0, NONCE_SIZE);
+            cipher.doFinal(data, 0, data.length, result, NONCE_SIZE);
+            return result;
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static byte[] decrypt(byte @NotNull [] key, byte @NotNull [] data) {
+        return decrypt(key, data, null);
+    }
+
+    public static byte[] decrypt(byte @NotNull [] key, byte @NotNull [] data, byte[] aad) {
+        AssertUtils.notNull(key, "key 不允许为 null");
+        AssertUtils.notNull(data, "data 不允许为 null");
+        AssertUtils.isTrue(data.length >= NONCE_SIZE + TAG_SIZE, "data 不是有效的 AES-GCM 密文");
+        try {
+            final Cipher cipher = CipherPool.acquire(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, ALGORITHM), new GCMParameterSpec(TAG_SIZE * 8, data, 0, NONCE_SIZE));
+            if (aad != null) {
+                cipher.updateAAD(aad);
+            }
+            return cipher.doFinal(data, NONCE_SIZE, data.length - NONCE_SIZE);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static long encrypt(byte @NotNull [] key, @NotNull InputStream in, @NotNull OutputStream out) throws IOException {
+        return encrypt(key, Channels.newChannel(in), Channels.newChannel(out), DEFAULT_SEGMENT_SIZE);
+    }
+
+    public static long encrypt(byte @NotNull [] key, @NotNull ReadableByteChannel in, @NotNull WritableByteChannel out) throws IOException {
+        return encrypt(key, in, out, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @return 已加密的明文字节数
+     */
+    public static long encrypt(byte @NotNull [] key, @NotNull ReadableByteChannel in, @NotNull WritableByteChannel out, int segmentSize) throws IOException {
+        AssertUtils.notNull(key, "key 不允许为 null");
+        AssertUtils.notNull(in, "in 不允许为 null");
+        AssertUtils.notNull(out, "out 不允许为 null");
+        checkSegmentSize(segmentSize);
+        final SecretKeySpec secretKey = new SecretKeySpec(key, ALGORITHM);
+        final byte[] noncePrefix = randomNoncePrefix();
+        writeFully(out, writeHeader(ByteBuffer.allocate(HEADER_SIZE), segmentSize, noncePrefix));
+        final SegmentBuffers buffers = SegmentBuffers.checkout(segmentSize);
+        final ByteBuffer plain = buffers.plain;
+        final ByteBuffer frame = buffers.frame;
+        long total = 0;
+        long index = 0;
+        boolean last;
+        Cipher cipher = null;
+        try {
+            cipher = CipherPool.checkout(TRANSFORMATION);
+            do {
+                plain.clear().limit(segmentSize);
+                last = !readFully(in, plain);
+                plain.flip();
+                total += plain.remaining();
+                frame.clear();
+                encryptSegment(cipher, secretKey, segmentSize, noncePrefix, index++, last, plain, frame);
+                frame.flip();
+                writeFully(out, frame);
+            } while (!last);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (cipher != null) {
+                CipherPool.release(TRANSFORMATION, cipher);
+            }
+            buffers.release();
+        }
+        return total;
+    }
+
+    public static long decrypt(byte @NotNull [] key, @NotNull InputStream in, @NotNull OutputStream out) throws IOException {
+        return decrypt(key, Channels.newChannel(in), Channels.newChannel(out));
+    }
+
+    /**
+     * @return 已解密的明文字节数
+     */
+    public static long decrypt(byte @NotNull [] key, @NotNull ReadableByteChannel in, @NotNull WritableByteChannel out) throws IOException {
+        AssertUtils.notNull(key, "key 不允许为 null");
+        AssertUtils.notNull(in, "in 不允许为 null");
+        AssertUtils.notNull(out, "out 不允许为 null");
+        final SecretKeySpec secretKey = new SecretKeySpec(key, ALGORITHM);
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (!readFully(in, header)) {
+            throw new EOFException("加密数据头部不完整");
+        }
+        header.flip();
+        final int segmentSize = readSegmentSize(header);
+        final byte[] noncePrefix = new byte[NONCE_PREFIX_SIZE];
+        header.get(noncePrefix);
+        final SegmentBuffers buffers = SegmentBuffers.checkout(segmentSize);
+        final ByteBuffer plain = buffers.plain;
+        final ByteBuffer frame = buffers.frame;
+        long total = 0;
+        long index = 0;
+        boolean last;
+        Cipher cipher = null;
+        try {
+            cipher = CipherPool.checkout(TRANSFORMATION);
+            do {
+                frame.clear().limit(FRAME_HEADER_SIZE);
+                if (!readFully(in, frame)) {
+                    throw new EOFException("加密数据在第 " + index + " 段处被截断");
+                }
+                final int length = frameLength(frame.getInt(0), segmentSize);
+                last = isLastFrame(frame.getInt(0));
+                frame.limit(FRAME_HEADER_SIZE + length);
+                if (!readFully(in, frame)) {
+                    throw new EOFException("加密数据在第 " + index + " 段处被截断");
+                }
+                frame.flip();
+                plain.clear();
+                decryptSegment(cipher, secretKey, segmentSize, noncePrefix, index++, frame, plain);
+                plain.flip();
+                total += plain.remaining();
+                writeFully(out, plain);
+            } while (!last);
+            frame.clear().limit(1);
+            int read;
+            do {
+                read = in.read(frame);
+            } while (read == 0);
+            if (read > 0) {
+                throw new StreamCorruptedException("加密数据在最后一段之后存在多余的数据");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (cipher != null) {
+                CipherPool.release(TRANSFORMATION, cipher);
+            }
+            buffers.release();
+        }
+        return total;
+    }
+
+    static void checkSegmentSize(int segmentSize) {
+        AssertUtils.isTrue(segmentSize >= MIN_SEGMENT_SIZE && segmentSize <= MAX_SEGMENT_SIZE,
+                "segmentSize 必须介于 %s 与 %s 之间", MIN_SEGMENT_SIZE, MAX_SEGMENT_SIZE);
+    }
+
+    @NotNull
+    static ByteBuffer writeHeader(@NotNull ByteBuffer buffer, int segmentSize, byte @NotNull [] noncePrefix) {
+        buffer.putInt(MAGIC).put(VERSION).putInt(segmentSize).put(noncePrefix);
+        buffer.flip();
+        return buffer;
+    }
+
+    static int readSegmentSize(@NotNull ByteBuffer header) throws StreamCorruptedException {
+        if (header.getInt() != MAGIC || header.get() != VERSION) {
+            throw new StreamCorruptedException("不是受支持的 AES-GCM 加密数据");
+        }
+        final int segmentSize = header.getInt();
+        if (segmentSize < MIN_SEGMENT_SIZE || segmentSize > MAX_SEGMENT_SIZE) {
+            throw new StreamCorruptedException("无效的段大小 " + segmentSize);
+        }
+        return segmentSize;
+    }
+
+    static int frameLength(int frameHeader, int segmentSize) throws StreamCorruptedException {
+        final int length = frameHeader & ~FINAL_FLAG;
+        if (length < TAG_SIZE || length > segmentSize + TAG_SIZE
+                || (!isLastFrame(frameHeader) && length != segmentSize + TAG_SIZE)) {
+            throw new StreamCorruptedException("无效的帧长度 " + length);
+        }
+        return length;
+    }
+
+    static boolean isLastFrame(int frameHeader) {
+        return (frameHeader & FINAL_FLAG) != 0;
+    }
+
+    /**
+     * 将 {@code plain} 的剩余内容加密为一帧写入 {@code frame}，包括帧头。
+     */
+    static void encryptSegment(@NotNull Cipher cipher, @NotNull SecretKeySpec key, int segmentSize, byte @NotNull [] noncePrefix, long index,
+                               boolean last, @NotNull ByteBuffer plain, @NotNull ByteBuffer frame) throws GeneralSecurityException {
+        final int start = frame.position();
+        frame.position(start + FRAME_HEADER_SIZE);
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_SIZE * 8, nonce(noncePrefix, index)));
+        updateAAD(cipher, segmentSize, noncePrefix, index, last);
+        final int length = cipher.doFinal(plain, frame);
+        frame.putInt(start, last ? length | FINAL_FLAG : length);
+    }
+
+    /**
+     * 解密 {@code frame} 中包含帧头的一整帧，明文写入 {@code plain}。
+     */
+    static void decryptSegment(@NotNull Cipher cipher, @NotNull SecretKeySpec key, int segmentSize, byte @NotNull [] noncePrefix, long index,
+                               @NotNull ByteBuffer frame, @NotNull ByteBuffer plain) throws GeneralSecurityException {
+        final boolean last = isLastFrame(frame.getInt());
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_SIZE * 8, nonce(noncePrefix, index)));
+        updateAAD(cipher, segmentSize, noncePrefix, index, last);
+        cipher.doFinal(frame, plain);
+    }
+
+    /**
+     * 首帧额外认证整个头部，其余帧仅认证末帧标记。
+     */
+    private static void updateAAD(@NotNull Cipher cipher, int segmentSize, byte @NotNull [] noncePrefix, long index, boolean last) {
+        if (index == 0) {
+            cipher.updateAAD(writeHeader(ByteBuffer.allocate(HEADER_SIZE), segmentSize, noncePrefix));
+        }
+        cipher.updateAAD(last ? FINAL_AAD : NON_FINAL_AAD);
+    }
+
+    static byte[] nonce(byte @NotNull [] noncePrefix, long index) {
+        AssertUtils.isTrue(index >= 0 && index <= 0xFFFFFFFFL, "段数量超出上限");
+        final byte[] nonce = new byte[NONCE_SIZE];
+        System.arraycopy(noncePrefix, 0, nonce, 0, NONCE_PREFIX_SIZE);
+        nonce[8] = (byte) (index >>> 24);
+        nonce[9] = (byte) (index >>> 16);
+        nonce[10] = (byte) (index >>> 8);
+        nonce[11] = (byte) index;
+        return nonce;
+    }
+
+    static byte[] randomNoncePrefix() {
+        final byte[] noncePrefix = new byte[NONCE_PREFIX_SIZE];
+        SecureRandomUtils.getSecureRandom().nextBytes(noncePrefix);
+        return noncePrefix;
+    }
+
+    /**
+     * @return 缓冲区被填满时返回 {@code true}，提前到达末尾时返回 {@code false}
+     */
+    private static boolean readFully(@NotNull ReadableByteChannel in, @NotNull ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeFully(@NotNull WritableByteChannel out, @NotNull ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * 按线程复用的分段缓冲区，借出期间嵌套调用会得到新分配的缓冲区。
+     * 仅缓存不超过 {@link #DEFAULT_SEGMENT_SIZE} 的直接缓冲区，更大的段大小可能来自不可信的头部，
+     * 此时分配仅供本次调用使用的堆缓冲区，避免每个线程长期持有大块直接内存。
+     */
+    static final class SegmentBuffers {
+
+        private static final ThreadLocal<SegmentBuffers> POOL = new ThreadLocal<>();
+
+        final ByteBuffer plain;
+        final ByteBuffer frame;
+        private boolean checkedOut = false;
+
+        private SegmentBuffers(ByteBuffer plain, ByteBuffer frame) {
+            this.plain = plain;
+            this.frame = frame;
+        }
+
+        /**
+         * 使用完毕后必须调用 {@link #release()} 归还。
+         */
+        @NotNull
+        static SegmentBuffers checkout(int segmentSize) {
+            if (segmentSize <= DEFAULT_SEGMENT_SIZE) {
+                SegmentBuffers pooled = POOL.get();
+                if (pooled == null) {
+                    pooled = new SegmentBuffers(
+                            ByteBuffer.allocateDirect(DEFAULT_SEGMENT_SIZE),
+                            ByteBuffer.allocateDirect(FRAME_HEADER_SIZE + DEFAULT_SEGMENT_SIZE + TAG_SIZE)
+                    );
+                    POOL.set(pooled);
+                }
+                if (!pooled.checkedOut) {
+                    pooled.checkedOut = true;
+                    return pooled;
+                }
+            }
+            return new SegmentBuffers(
+                    ByteBuffer.allocate(segmentSize),
+                    ByteBuffer.allocate(FRAME_HEADER_SIZE + segmentSize + TAG_SIZE)
+            );
+        }
+
+        void release() {
+            checkedOut = false;
+        }
+    }
+}
@@ -18,11 +18,7 @@
 package team.idealstate.hyper.core.common.crypto;
 
 import javax.crypto.Cipher;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
 import java.security.GeneralSecurityException;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 
 /**
  * <p>AesUtils</p>
@@ -30,42 +26,38 @@ import java.security.SecureRandom;
  * <p>创建于 2024/2/2 7:10</p>
  *
  * @author ketikai
- * @version 1.0.0
+ * @version 1.0.2
  * @since 1.0.0
  */
 public abstract class AesUtils {
 
     private static final int KEY_SIZE = 256;
+    private static final String ALGORITHM = "AES";
 
     public static byte[] encrypt(byte[] key, byte[] data) {
-        SecretKey secretKey = new SecretKeySpec(key, "AES");
         try {
-            Cipher cipher = Cipher.getInstance("AES");
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-            return cipher.doFinal(data);
+            return CipherPool.doFinal(ALGORITHM, ALGORITHM, Cipher.ENCRYPT_MODE, key, data);
         } catch (GeneralSecurityException e) {
             throw new RuntimeException(e);
         }
     }
 
     public static byte[] decrypt(byte[] key, byte[] data) {
-        SecretKey secretKey = new SecretKeySpec(key, "AES");
         try {
-            Cipher cipher = Cipher.getInstance("AES");
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
-            return cipher.doFinal(data);
+            return CipherPool.doFinal(ALGORITHM, ALGORITHM, Cipher.DECRYPT_MODE, key, data);
         } catch (GeneralSecurityException e) {
             throw new RuntimeException(e);
         }
     }
 
     public static byte[] generateRandomKey() {
-        SecureRandom secureRandom;
-        try {
-            secureRandom = SecureRandom.getInstanceStrong();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException(e);
-        }
-        return secureRandom.generateSeed(KEY_SIZE / 8);
+        return generateRandomKey(false);
+    }
+
+    /**
+     * @param strong 为 {@code true} 时使用可能阻塞的强随机数
+     */
+    public static byte[] generateRandomKey(boolean strong) {
+        return SecureRandomUtils.nextBytes(KEY_SIZE / 8, strong);
     }
 }
@@ -0,0 +1,161 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.crypto;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>CipherPool</p>
+ *
+ * <p>按线程和转换名称复用 {@link Cipher} 实例，密钥与模式未变化时跳过重复的初始化；
+ * 原始密钥字节保留一份副本用于按内容比较，被替换或初始化失败时清零</p>
+ *
+ * <p>创建于 2026/10/18 15:30</p>
+ *
+ * @author ketikai
+ * @version 1.0.4
+ * @since 1.0.0
+ */
+final class CipherPool {
+
+    private static final ThreadLocal<Map<String, PooledCipher>> POOL = ThreadLocal.withInitial(() -> new HashMap<>(8));
+
+    private CipherPool() {
+    }
+
+    /**
+     * 获取当前线程的实例，仅可在不会重入本类的连续调用中使用；实例已被借出时返回新的实例。
+     */
+    @NotNull
+    static Cipher acquire(@NotNull String transformation) throws GeneralSecurityException {
+        final PooledCipher pooled = pooled(transformation);
+        if (pooled.checkedOut) {
+            return Cipher.getInstance(transformation);
+        }
+        pooled.reset();
+        return pooled.cipher;
+    }
+
+    /**
+     * 借出当前线程的实例，借出期间可以执行任意回调，使用完毕后必须调用 {@link #release(String, Cipher)} 归还；
+     * 实例已被借出时（例如在回调中嵌套调用）返回新的实例。
+     */
+    @NotNull
+    static Cipher checkout(@NotNull String transformation) throws GeneralSecurityException {
+        final PooledCipher pooled = pooled(transformation);
+        if (pooled.checkedOut) {
+            return Cipher.getInstance(transformation);
+        }
+        pooled.reset();
+        pooled.checkedOut = true;
+        return pooled.cipher;
+    }
+
+    static void release(@NotNull String transformation, @NotNull Cipher cipher) {
+        final PooledCipher pooled = POOL.get().get(transformation);
+        if (pooled != null && pooled.cipher == cipher) {
+            pooled.checkedOut = false;
+        }
+    }
+
+    static byte[] doFinal(@NotNull String transformation, int mode, @NotNull Key key, byte[] data) throws GeneralSecurityException {
+        final PooledCipher pooled = pooled(transformation);
+        if (pooled.checkedOut) {
+            final Cipher cipher = Cipher.getInstance(transformation);
+            cipher.init(mode, key);
+            return cipher.doFinal(data);
+        }
+        try {
+            if (pooled.mode != mode || pooled.key != key) {
+                pooled.init(mode, key, null);
+            }
+            return pooled.cipher.doFinal(data);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            pooled.reset();
+            throw e;
+        }
+    }
+
+    static byte[] doFinal(@NotNull String transformation, @NotNull String algorithm, int mode, byte @NotNull [] key, byte[] data) throws GeneralSecurityException {
+        final PooledCipher pooled = pooled(transformation);
+        if (pooled.checkedOut) {
+            final Cipher cipher = Cipher.getInstance(transformation);
+            cipher.init(mode, new SecretKeySpec(key, algorithm));
+            return cipher.doFinal(data);
+        }
+        try {
+            if (pooled.mode != mode || pooled.rawKey == null || !MessageDigest.isEqual(pooled.rawKey, key)) {
+                pooled.init(mode, new SecretKeySpec(key, algorithm), key.clone());
+            }
+            return pooled.cipher.doFinal(data);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            pooled.reset();
+            throw e;
+        }
+    }
+
+    @NotNull
+    private static PooledCipher pooled(@NotNull String transformation) throws GeneralSecurityException {
+        final Map<String, PooledCipher> pool = POOL.get();
+        PooledCipher pooled = pool.get(transformation);
+        if (pooled == null) {
+            pooled = new PooledCipher(Cipher.getInstance(transformation));
+            pool.put(transformation, pooled);
+        }
+        return pooled;
+    }
+
+    private static final class PooledCipher {
+
+        private final Cipher cipher;
+        private int mode = 0;
+        private Key key = null;
+        private byte[] rawKey = null;
+        private boolean checkedOut = false;
+
+        private PooledCipher(Cipher cipher) {
+            this.cipher = cipher;
+        }
+
+        private void init(int mode, Key key, byte[] rawKey) throws GeneralSecurityException {
+            reset();
+            cipher.init(mode, key);
+            this.mode = mode;
+            this.key = key;
+            this.rawKey = rawKey;
+        }
+
+        private void reset() {
+            this.mode = 0;
+            this.key = null;
+            if (rawKey != null) {
+                Arrays.fill(rawKey, (byte) 0);
+                rawKey = null;
+            }
+        }
+    }
+}
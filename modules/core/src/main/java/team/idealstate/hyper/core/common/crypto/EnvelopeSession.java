@@ -0,0 +1,102 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.crypto;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import java.nio.ByteBuffer;
+import java.security.PublicKey;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>EnvelopeSession</p>
+ *
+ * <p>面向单个接收者的信封加密会话，会话内所有消息共用同一个 AES 密钥，
+ * RSA 包装只在创建会话时执行一次</p>
+ *
+ * <p>创建于 2026/10/18 17:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.1
+ * @since 1.0.0
+ */
+public final class EnvelopeSession {
+
+    public static final long DEFAULT_MAX_MESSAGES = 1L << 24;
+    public static final long DEFAULT_LIFETIME_MILLIS = 10 * 60 * 1000L;
+
+    private final PublicKey recipient;
+    private final byte[] sessionKey;
+    private final byte[] header;
+    private final long maxMessages;
+    private final long expiresAt;
+    private final AtomicLong messages = new AtomicLong();
+
+    EnvelopeSession(@NotNull PublicKey recipient, long maxMessages, long lifetimeMillis) {
+        AssertUtils.notNull(recipient, "recipient 不允许为 null");
+        AssertUtils.isTrue(maxMessages > 0, "maxMessages 必须大于 0");
+        AssertUtils.isTrue(lifetimeMillis > 0, "lifetimeMillis 必须大于 0");
+        this.recipient = recipient;
+        this.sessionKey = AesUtils.generateRandomKey();
+        this.header = EnvelopeUtils.header(EnvelopeUtils.wrap(recipient, sessionKey));
+        this.maxMessages = maxMessages;
+        this.expiresAt = System.currentTimeMillis() + lifetimeMillis;
+    }
+
+    @NotNull
+    public PublicKey getRecipient() {
+        return recipient;
+    }
+
+    public long getMessageCount() {
+        return messages.get();
+    }
+
+    /**
+     * 会话已达到消息数量上限或已过期时返回 {@code false}，此时应创建新的会话。
+     */
+    public boolean isUsable() {
+        return messages.get() < maxMessages && System.currentTimeMillis() < expiresAt;
+    }
+
+    /**
+     * 使用会话密钥与新的随机数加密 {@code data}，结果可直接由 {@link EnvelopeUtils#open} 解密。
+     */
+    public byte[] seal(byte @NotNull [] data) {
+        final byte[] sealed = trySeal(data);
+        if (sealed == null) {
+            throw new IllegalStateException("会话已达到消息数量上限");
+        }
+        return sealed;
+    }
+
+    /**
+     * 与 {@link #seal(byte[])} 相同，但会话已达到消息数量上限时返回 {@code null} 而不是抛出异常。
+     */
+    @Nullable
+    public byte[] trySeal(byte @NotNull [] data) {
+        AssertUtils.notNull(data, "data 不允许为 null");
+        if (messages.incrementAndGet() > maxMessages) {
+            return null;
+        }
+        final byte[] content = AesGcmUtils.encrypt(sessionKey, data, header);
+        return ByteBuffer.allocate(header.length + content.length).put(header).put(content).array();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.crypto;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+import team.idealstate.hyper.core.common.template.LruCache;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.MGF1ParameterSpec;
+import java.util.Arrays;
+
+/**
+ * <p>EnvelopeUtils</p>
+ *
+ * <p>RSA-OAEP 与 AES-GCM 混合的信封加密，数据长度不受 RSA 分组大小限制</p>
+ *
+ * <p>信封格式：魔数 {@code HENV}、版本号、密钥包装算法、内容加密算法、
+ * 2 字节包装密钥长度与包装密钥，之后为 12 字节随机数与 AES-GCM 密文及认证标签。
+ * 信封头部作为附加认证数据参与认证。</p>
+ *
+ * <p>创建于 2026/10/18 17:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.1
+ * @since 1.0.0
+ */
+public abstract class EnvelopeUtils {
+
+    private static final int MAGIC = 0x48454E56;
+    private static final byte VERSION = 1;
+    private static final byte KEY_WRAP_RSA_OAEP_SHA256 = 1;
+    private static final byte CONTENT_AES_256_GCM = 1;
+    private static final int FIXED_HEADER_SIZE = 4 + 1 + 1 + 1 + 2;
+    private static final String WRAP_TRANSFORMATION = "RSA/ECB/OAEPPadding";
+    private static final OAEPParameterSpec OAEP_PARAMETERS = new OAEPParameterSpec(
+            "SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+    private static final LruCache<PublicKey, EnvelopeSession> SESSIONS = new LruCache<>(256);
+    private static final LruCache<UnwrappedKey, byte[]> UNWRAPPED_KEYS = new LruCache<>(1024);
+
+    /**
+     * 创建一个新的会话，调用者自行决定其作用范围。
+     */
+    @NotNull
+    public static EnvelopeSession newSession(@NotNull PublicKey recipient) {
+        return new EnvelopeSession(recipient, EnvelopeSession.DEFAULT_MAX_MESSAGES, EnvelopeSession.DEFAULT_LIFETIME_MILLIS);
+    }
+
+    @NotNull
+    public static EnvelopeSession newSession(@NotNull PublicKey recipient, long maxMessages, long lifetimeMillis) {
+        return new EnvelopeSession(recipient, maxMessages, lifetimeMillis);
+    }
+
+    /**
+     * 使用按接收者缓存的共享会话加密，连续发送给同一接收者的消息不会重复执行 RSA 包装。
+     * 会话达到消息数量上限或过期后自动轮换。
+     */
+    public static byte[] seal(@NotNull PublicKey recipient, byte @NotNull [] data) {
+        AssertUtils.notNull(recipient, "recipient 不允许为 null");
+        AssertUtils.notNull(data, "data 不允许为 null");
+        EnvelopeSession session = SESSIONS.get(recipient);
+        while (true) {
+            if (session != null && session.isUsable()) {
+                final byte[] sealed = session.trySeal(data);
+                if (sealed != null) {
+                    return sealed;
+                }
+            }
+            final EnvelopeSession fresh = newSession(recipient);
+            final boolean installed = session == null
+                    ? SESSIONS.putIfAbsent(recipient, fresh) == null
+                    : SESSIONS.replace(recipient, session, fresh);
+            session = installed ? fresh : SESSIONS.get(recipient);
+        }
+    }
+
+    /**
+     * 解密信封，已解包过的会话密钥会被缓存，同一会话的后续消息不再执行 RSA 解密。
+     */
+    public static byte[] open(@NotNull PrivateKey key, byte @NotNull [] envelope) {
+        AssertUtils.notNull(key, "key 不允许为 null");
+        AssertUtils.notNull(envelope, "envelope 不允许为 null");
+        AssertUtils.isTrue(envelope.length >= FIXED_HEADER_SIZE, "envelope 不是有效的信封");
+        final ByteBuffer buffer = ByteBuffer.wrap(envelope);
+        AssertUtils.isTrue(buffer.getInt() == MAGIC && buffer.get() == VERSION, "envelope 不是受支持的信封");
+        AssertUtils.isTrue(buffer.get() == KEY_WRAP_RSA_OAEP_SHA256, "不支持的密钥包装算法");
+        AssertUtils.isTrue(buffer.get() == CONTENT_AES_256_GCM, "不支持的内容加密算法");
+        final int wrappedLength = buffer.getShort() & 0xFFFF;
+        final int headerLength = FIXED_HEADER_SIZE + wrappedLength;
+        AssertUtils.isTrue(envelope.length >= headerLength, "envelope 不是有效的信封");
+        final byte[] wrapped = Arrays.copyOfRange(envelope, FIXED_HEADER_SIZE, headerLength);
+        final byte[] sessionKey = UNWRAPPED_KEYS.computeIfAbsent(new UnwrappedKey(key, wrapped), it -> unwrap(key, wrapped));
+        return AesGcmUtils.decrypt(sessionKey,
+                Arrays.copyOfRange(envelope, headerLength, envelope.length),
+                Arrays.copyOf(envelope, headerLength));
+    }
+
+    public static void clearCache() {
+        SESSIONS.clear();
+        UNWRAPPED_KEYS.clear();
+    }
+
+    static byte[] header(byte @NotNull [] wrapped) {
+        return ByteBuffer.allocate(FIXED_HEADER_SIZE + wrapped.length)
+                .putInt(MAGIC)
+                .put(VERSION)
+                .put(KEY_WRAP_RSA_OAEP_SHA256)
+                .put(CONTENT_AES_256_GCM)
+                .putShort((short) wrapped.length)
+                .put(wrapped)
+                .array();
+    }
+
+    static byte[] wrap(@NotNull PublicKey recipient, byte @NotNull [] sessionKey) {
+        try {
+            final Cipher cipher = CipherPool.acquire(WRAP_TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, recipient, OAEP_PARAMETERS, SecureRandomUtils.getSecureRandom());
+            return cipher.doFinal(sessionKey);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static byte[] unwrap(@NotNull PrivateKey key, byte @NotNull [] wrapped) {
+        try {
+            final Cipher cipher = CipherPool.acquire(WRAP_TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, OAEP_PARAMETERS);
+            return cipher.doFinal(wrapped);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class UnwrappedKey {
+
+        private final PrivateKey key;
+        private final byte[] wrapped;
+        private final int hashCode;
+
+        private UnwrappedKey(PrivateKey key, byte[] wrapped) {
+            this.key = key;
+            this.wrapped = wrapped;
+            this.hashCode = 31 * System.identityHashCode(key) + Arrays.hashCode(wrapped);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof UnwrappedKey)) {
+                return false;
+            }
+            final UnwrappedKey that = (UnwrappedKey) o;
+            return key == that.key && Arrays.equals(wrapped, that.wrapped);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
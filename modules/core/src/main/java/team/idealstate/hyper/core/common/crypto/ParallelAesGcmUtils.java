@@ -0,0 +1,408 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.crypto;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>ParallelAesGcmUtils</p>
+ *
+ * <p>在 {@link ForkJoinPool} 上并行加解密 {@link AesGcmUtils} 的分段帧格式，并支持随机访问单个段</p>
+ *
+ * <p>除末帧外每一帧的长度固定，因此任意段的偏移量都可以直接计算，
+ * 各段独立认证，可以由不同线程分别处理。两者产生的数据可以互相解密。</p>
+ *
+ * <p>创建于 2026/10/18 16:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.2
+ * @since 1.0.0
+ */
+public abstract class ParallelAesGcmUtils {
+
+    private static final int SEGMENTS_PER_TASK = 4;
+
+    public static byte[] encrypt(byte @NotNull [] key, byte @NotNull [] data) {
+        return encrypt(key, data, AesGcmUtils.DEFAULT_SEGMENT_SIZE, ForkJoinPool.commonPool());
+    }
+
+    public static byte[] encrypt(byte @NotNull [] key, byte @NotNull [] data, int segmentSize, @NotNull ForkJoinPool pool) {
+        AssertUtils.notNull(key, "key 不允许为 null");
+        AssertUtils.notNull(data, "data 不允许为 null");
+        AssertUtils.notNull(pool, "pool 不允许为 null");
+        AesGcmUtils.checkSegmentSize(segmentSize);
+        final Layout layout = new Layout(segmentSize, AesGcmUtils.randomNoncePrefix(), data.length);
+        AssertUtils.isTrue(layout.getCipherSize() <= Integer.MAX_VALUE - 8, "data 过大，无法加密到字节数组");
+        final byte[] result = new byte[(int) layout.getCipherSize()];
+        AesGcmUtils.writeHeader(ByteBuffer.wrap(result, 0, AesGcmUtils.HEADER_SIZE), segmentSize, layout.noncePrefix);
+        pool.invoke(new ArrayTask(key, layout, data, result, true, 0, layout.segmentCount));
+        return result;
+    }
+
+    public static byte[] decrypt(byte @NotNull [] key, byte @NotNull [] data) {
+        return decrypt(key, data, ForkJoinPool.commonPool());
+    }
+
+    public static byte[] decrypt(byte @NotNull [] key, byte @NotNull [] data, @NotNull ForkJoinPool pool) {
+        AssertUtils.notNull(key, "key 不允许为 null");
+        AssertUtils.notNull(data, "data 不允许为 null");
+        AssertUtils.notNull(pool, "pool 不允许为 null");
+        final Layout layout = readLayout(data);
+        final byte[] result = new byte[(int) layout.plainSize];
+        pool.invoke(new ArrayTask(key, layout, result, data, false, 0, layout.segmentCount));
+        return result;
+    }
+
+    public static long encrypt(byte @NotNull [] key, @NotNull FileChannel in, @NotNull FileChannel out) throws IOException {
+        return encrypt(key, in, out, AesGcmUtils.DEFAULT_SEGMENT_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 将 {@code in} 的全部内容加密写入 {@code out}，{@code out} 会被截断为密文长度。
+     *
+     * @return 已加密的明文字节数
+     */
+    public static long encrypt(byte @NotNull [] key, @NotNull FileChannel in, @NotNull FileChannel out,
+                               int segmentSize, @NotNull ForkJoinPool pool) throws IOException {
+        AssertUtils.notNull(key, "key 不允许为 null");
+        AssertUtils.notNull(in, "in 不允许为 null");
+        AssertUtils.notNull(out, "out 不允许为 null");
+        AssertUtils.notNull(pool, "pool 不允许为 null");
+        AesGcmUtils.checkSegmentSize(segmentSize);
+        final Layout layout = new Layout(segmentSize, AesGcmUtils.randomNoncePrefix(), in.size());
+        writeFully(out, AesGcmUtils.writeHeader(ByteBuffer.allocate(AesGcmUtils.HEADER_SIZE), segmentSize, layout.noncePrefix), 0);
+        invoke(pool, new ChannelTask(key, layout, in, out, true, 0, layout.segmentCount));
+        out.truncate(layout.getCipherSize());
+        return layout.plainSize;
+    }
+
+    public static long decrypt(byte @NotNull [] key, @NotNull FileChannel in, @NotNull FileChannel out) throws IOException {
+        return decrypt(key, in, out, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 将 {@code in} 的全部内容解密写入 {@code out}，{@code out} 会被截断为明文长度。
+     *
+     * @return 已解密的明文字节数
+     */
+    public static long decrypt(byte @NotNull [] key, @NotNull FileChannel in, @NotNull FileChannel out,
+                               @NotNull ForkJoinPool pool) throws IOException {
+        AssertUtils.notNull(key, "key 不允许为 null");
+        AssertUtils.notNull(in, "in 不允许为 null");
+        AssertUtils.notNull(out, "out 不允许为 null");
+        AssertUtils.notNull(pool, "pool 不允许为 null");
+        final Layout layout = readLayout(in);
+        invoke(pool, new ChannelTask(key, layout, out, in, false, 0, layout.segmentCount));
+        out.truncate(layout.plainSize);
+        return layout.plainSize;
+    }
+
+    public static long getSegmentCount(byte @NotNull [] data) {
+        AssertUtils.notNull(data, "data 不允许为 null");
+        return readLayout(data).segmentCount;
+    }
+
+    public static long getSegmentCount(@NotNull FileChannel in) throws IOException {
+        AssertUtils.notNull(in, "in 不允许为 null");
+        return readLayout(in).segmentCount;
+    }
+
+    public static long getPlainSize(@NotNull FileChannel in) throws IOException {
+        AssertUtils.notNull(in, "in 不允许为 null");
+        return readLayout(in).plainSize;
+    }
+
+    /**
+     * 仅解密第 {@code index} 段，对应明文偏移量为 {@code index * segmentSize}。
+     */
+    public static byte[] decryptSegment(byte @NotNull [] key, byte @NotNull [] data, long index) {
+        AssertUtils.notNull(key, "key 不允许为 null");
+        AssertUtils.notNull(data, "data 不允许为 null");
+        final Layout layout = readLayout(data);
+        checkIndex(layout, index);
+        final byte[] result = new byte[layout.plainLength(index)];
+        try {
+            decryptFrame(CipherPool.acquire(AesGcmUtils.TRANSFORMATION), new SecretKeySpec(key, AesGcmUtils.ALGORITHM), layout, index,
+                    ByteBuffer.wrap(data, (int) layout.frameOffset(index), layout.frameLength(index)), ByteBuffer.wrap(result));
+        } catch (StreamCorruptedException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        }
+        return result;
+    }
+
+    /**
+     * 仅解密第 {@code index} 段，对应明文偏移量为 {@code index * segmentSize}。
+     */
+    public static byte[] decryptSegment(byte @NotNull [] key, @NotNull FileChannel in, long index) throws IOException {
+        AssertUtils.notNull(key, "key 不允许为 null");
+        AssertUtils.notNull(in, "in 不允许为 null");
+        final Layout layout = readLayout(in);
+        checkIndex(layout, index);
+        final ByteBuffer frame = ByteBuffer.allocate(layout.frameLength(index));
+        readFully(in, frame, layout.frameOffset(index));
+        frame.flip();
+        final byte[] result = new byte[layout.plainLength(index)];
+        try {
+            decryptFrame(CipherPool.acquire(AesGcmUtils.TRANSFORMATION), new SecretKeySpec(key, AesGcmUtils.ALGORITHM), layout, index,
+                    frame, ByteBuffer.wrap(result));
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        }
+        return result;
+    }
+
+    private static void checkIndex(@NotNull Layout layout, long index) {
+        if (index < 0 || index >= layout.segmentCount) {
+            throw new IndexOutOfBoundsException("index: " + index + ", segmentCount: " + layout.segmentCount);
+        }
+    }
+
+    private static void decryptFrame(@NotNull Cipher cipher, @NotNull SecretKeySpec key, @NotNull Layout layout, long index,
+                                     @NotNull ByteBuffer frame, @NotNull ByteBuffer plain) throws GeneralSecurityException, StreamCorruptedException {
+        final int frameHeader = frame.getInt(frame.position());
+        if ((frameHeader & ~0x80000000) != layout.frameLength(index) - AesGcmUtils.FRAME_HEADER_SIZE
+                || AesGcmUtils.isLastFrame(frameHeader) != (index == layout.segmentCount - 1)) {
+            throw new StreamCorruptedException("第 " + index + " 段的帧头无效");
+        }
+        AesGcmUtils.decryptSegment(cipher, key, layout.segmentSize, layout.noncePrefix, index, frame, plain);
+    }
+
+    private static void invoke(@NotNull ForkJoinPool pool, @NotNull RecursiveAction task) throws IOException {
+        try {
+            pool.invoke(task);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @NotNull
+    private static Layout readLayout(byte @NotNull [] data) {
+        AssertUtils.isTrue(data.length >= AesGcmUtils.HEADER_SIZE, "加密数据头部不完整");
+        try {
+            return readLayout(ByteBuffer.wrap(data, 0, AesGcmUtils.HEADER_SIZE), data.length);
+        } catch (StreamCorruptedException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    @NotNull
+    private static Layout readLayout(@NotNull FileChannel in) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(AesGcmUtils.HEADER_SIZE);
+        readFully(in, header, 0);
+        header.flip();
+        return readLayout(header, in.size());
+    }
+
+    @NotNull
+    private static Layout readLayout(@NotNull ByteBuffer header, long cipherSize) throws StreamCorruptedException {
+        final int segmentSize = AesGcmUtils.readSegmentSize(header);
+        final byte[] noncePrefix = new byte[AesGcmUtils.NONCE_PREFIX_SIZE];
+        header.get(noncePrefix);
+        final long fullFrameSize = AesGcmUtils.FRAME_HEADER_SIZE + segmentSize + AesGcmUtils.TAG_SIZE;
+        final long body = cipherSize - AesGcmUtils.HEADER_SIZE;
+        final long lastFrameSize = body % fullFrameSize;
+        if (lastFrameSize < AesGcmUtils.FRAME_HEADER_SIZE + AesGcmUtils.TAG_SIZE) {
+            throw new StreamCorruptedException("加密数据长度无效");
+        }
+        final long segmentCount = body / fullFrameSize + 1;
+        return new Layout(segmentSize, noncePrefix, body - segmentCount * (AesGcmUtils.FRAME_HEADER_SIZE + AesGcmUtils.TAG_SIZE));
+    }
+
+    private static void readFully(@NotNull FileChannel in, @NotNull ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = in.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("加密数据在偏移量 " + position + " 处被截断");
+            }
+            position += read;
+        }
+    }
+
+    private static void writeFully(@NotNull FileChannel out, @NotNull ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += out.write(buffer, position);
+        }
+    }
+
+    private static final class Layout {
+
+        private final int segmentSize;
+        private final byte[] noncePrefix;
+        private final long plainSize;
+        private final long segmentCount;
+
+        private Layout(int segmentSize, byte[] noncePrefix, long plainSize) {
+            this.segmentSize = segmentSize;
+            this.noncePrefix = noncePrefix;
+            this.plainSize = plainSize;
+            this.segmentCount = plainSize / segmentSize + 1;
+        }
+
+        private long getCipherSize() {
+            return AesGcmUtils.HEADER_SIZE + segmentCount * (AesGcmUtils.FRAME_HEADER_SIZE + AesGcmUtils.TAG_SIZE) + plainSize;
+        }
+
+        private long plainOffset(long index) {
+            return index * segmentSize;
+        }
+
+        private int plainLength(long index) {
+            return index == segmentCount - 1 ? (int) (plainSize % segmentSize) : segmentSize;
+        }
+
+        private long frameOffset(long index) {
+            return AesGcmUtils.HEADER_SIZE + index * (AesGcmUtils.FRAME_HEADER_SIZE + segmentSize + AesGcmUtils.TAG_SIZE);
+        }
+
+        private int frameLength(long index) {
+            return AesGcmUtils.FRAME_HEADER_SIZE + plainLength(index) + AesGcmUtils.TAG_SIZE;
+        }
+    }
+
+    private static final class ArrayTask extends RecursiveAction {
+
+        private static final long serialVersionUID = -2417655016374384528L;
+
+        private final byte[] key;
+        private final Layout layout;
+        private final byte[] plain;
+        private final byte[] frames;
+        private final boolean encrypt;
+        private final long from;
+        private final long to;
+
+        private ArrayTask(byte[] key, Layout layout, byte[] plain, byte[] frames, boolean encrypt, long from, long to) {
+            this.key = key;
+            this.layout = layout;
+            this.plain = plain;
+            this.frames = frames;
+            this.encrypt = encrypt;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEGMENTS_PER_TASK) {
+                try {
+                    final Cipher cipher = CipherPool.acquire(AesGcmUtils.TRANSFORMATION);
+                    final SecretKeySpec secretKey = new SecretKeySpec(key, AesGcmUtils.ALGORITHM);
+                    for (long i = from; i < to; i++) {
+                        final ByteBuffer plainBuffer = ByteBuffer.wrap(plain, (int) layout.plainOffset(i), layout.plainLength(i));
+                        final ByteBuffer frameBuffer = ByteBuffer.wrap(frames, (int) layout.frameOffset(i), layout.frameLength(i));
+                        if (encrypt) {
+                            AesGcmUtils.encryptSegment(cipher, secretKey, layout.segmentSize, layout.noncePrefix, i, i == layout.segmentCount - 1, plainBuffer, frameBuffer);
+                        } else {
+                            decryptFrame(cipher, secretKey, layout, i, frameBuffer, plainBuffer);
+                        }
+                    }
+                } catch (StreamCorruptedException e) {
+                    throw new IllegalArgumentException(e.getMessage(), e);
+                } catch (GeneralSecurityException e) {
+                    throw new RuntimeException(e);
+                }
+                return;
+            }
+            final long middle = (from + to) >>> 1;
+            invokeAll(new ArrayTask(key, layout, plain, frames, encrypt, from, middle),
+                    new ArrayTask(key, layout, plain, frames, encrypt, middle, to));
+        }
+    }
+
+    private static final class ChannelTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 6080385733195424705L;
+
+        private final byte[] key;
+        private final Layout layout;
+        private final FileChannel source;
+        private final FileChannel target;
+        private final boolean encrypt;
+        private final long from;
+        private final long to;
+
+        private ChannelTask(byte[] key, Layout layout, FileChannel source, FileChannel target, boolean encrypt, long from, long to) {
+            this.key = key;
+            this.layout = layout;
+            this.source = source;
+            this.target = target;
+            this.encrypt = encrypt;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEGMENTS_PER_TASK) {
+                final AesGcmUtils.SegmentBuffers buffers = AesGcmUtils.SegmentBuffers.checkout(layout.segmentSize);
+                Cipher cipher = null;
+                try {
+                    cipher = CipherPool.checkout(AesGcmUtils.TRANSFORMATION);
+                    final SecretKeySpec secretKey = new SecretKeySpec(key, AesGcmUtils.ALGORITHM);
+                    final ByteBuffer plain = buffers.plain;
+                    final ByteBuffer frame = buffers.frame;
+                    for (long i = from; i < to; i++) {
+                        plain.clear().limit(layout.plainLength(i));
+                        frame.clear().limit(layout.frameLength(i));
+                        if (encrypt) {
+                            readFully(source, plain, layout.plainOffset(i));
+                            plain.flip();
+                            AesGcmUtils.encryptSegment(cipher, secretKey, layout.segmentSize, layout.noncePrefix, i, i == layout.segmentCount - 1, plain, frame);
+                            frame.flip();
+                            writeFully(target, frame, layout.frameOffset(i));
+                        } else {
+                            readFully(target, frame, layout.frameOffset(i));
+                            frame.flip();
+                            decryptFrame(cipher, secretKey, layout, i, frame, plain);
+                            plain.flip();
+                            writeFully(source, plain, layout.plainOffset(i));
+                        }
+                    }
+                } catch (GeneralSecurityException e) {
+                    throw new RuntimeException(e);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    if (cipher != null) {
+                        CipherPool.release(AesGcmUtils.TRANSFORMATION, cipher);
+                    }
+                    buffers.release();
+                }
+                return;
+            }
+            final long middle = (from + to) >>> 1;
+            invokeAll(new ChannelTask(key, layout, source, target, encrypt, from, middle),
+                    new ChannelTask(key, layout, source, target, encrypt, middle, to));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.crypto;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>RsaKeyPool</p>
+ *
+ * <p>在后台线程中预先生成 RSA 密钥对的有界池，取走的密钥对不会被再次分配</p>
+ *
+ * <p>创建于 2026/10/18 17:15</p>
+ *
+ * @author ketikai
+ * @version 1.0.2
+ * @since 1.0.0
+ */
+public final class RsaKeyPool {
+
+    public static final int DEFAULT_CAPACITY = 4;
+    private static final ConcurrentMap<Integer, RsaKeyPool> SHARED = new ConcurrentHashMap<>();
+
+    private final int keySize;
+    private final int capacity;
+    private final BlockingQueue<KeyPair> keyPairs;
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+
+    public RsaKeyPool(int keySize, int capacity) {
+        AssertUtils.isTrue(keySize >= 512, "keySize 不允许小于 512");
+        AssertUtils.isTrue(capacity > 0, "capacity 必须大于 0");
+        this.keySize = keySize;
+        this.capacity = capacity;
+        this.keyPairs = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 仅 2048、3072 与 4096 位的密钥长度拥有共享密钥池。
+     */
+    public static boolean isShared(int keySize) {
+        return keySize == 2048 || keySize == 3072 || keySize == 4096;
+    }
+
+    /**
+     * 获取指定密钥长度的共享密钥池，首次获取时开始在后台填充；
+     * 其它密钥长度不提供共享密钥池，需要时请自行创建 {@link RsaKeyPool}。
+     *
+     * @see #isShared(int)
+     */
+    @NotNull
+    public static RsaKeyPool of(int keySize) {
+        AssertUtils.isTrue(isShared(keySize), "keySize 为 %s 的密钥长度不提供共享密钥池", keySize);
+        RsaKeyPool pool = SHARED.get(keySize);
+        if (pool == null) {
+            pool = new RsaKeyPool(keySize, DEFAULT_CAPACITY);
+            final RsaKeyPool existing = SHARED.putIfAbsent(keySize, pool);
+            if (existing != null) {
+                return existing;
+            }
+            pool.refill();
+        }
+        return pool;
+    }
+
+    /**
+     * 丢弃全部共享密钥池及其中预先生成的密钥对，并取消尚未开始的后台填充。
+     * 后台线程在当前的填充结束并空闲超时后退出；在卸载加载了本类的类加载器之前应调用此方法。
+     */
+    public static void clearShared() {
+        Background.EXECUTOR.getQueue().clear();
+        final Iterator<RsaKeyPool> iterator = SHARED.values().iterator();
+        while (iterator.hasNext()) {
+            final RsaKeyPool pool = iterator.next();
+            iterator.remove();
+            pool.keyPairs.clear();
+            pool.refilling.set(false);
+        }
+    }
+
+    /**
+     * 取出一个预先生成的密钥对，池为空时在当前线程中直接生成，随后在后台补充。
+     */
+    @NotNull
+    public KeyPair take() {
+        KeyPair keyPair = keyPairs.poll();
+        if (keyPair == null) {
+            keyPair = generate(keySize);
+        }
+        refill();
+        return keyPair;
+    }
+
+    /**
+     * 在后台将池填满，已在填充时不会重复提交。
+     */
+    public void refill() {
+        if (keyPairs.size() < capacity && refilling.compareAndSet(false, true)) {
+            Background.EXECUTOR.execute(this::doRefill);
+        }
+    }
+
+    public int getKeySize() {
+        return keySize;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return keyPairs.size();
+    }
+
+    private void doRefill() {
+        try {
+            while (keyPairs.size() < capacity) {
+                if (!keyPairs.offer(generate(keySize))) {
+                    break;
+                }
+            }
+        } finally {
+            refilling.set(false);
+        }
+        if (keyPairs.size() < capacity) {
+            refill();
+        }
+    }
+
+    @NotNull
+    static KeyPair generate(int keySize) {
+        return generate(keySize, false);
+    }
+
+    @NotNull
+    static KeyPair generate(int keySize, boolean strong) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(keySize, SecureRandomUtils.getSecureRandom(strong));
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 后台线程空闲一段时间后自动退出，且不持有上下文类加载器，不会阻止类加载器被卸载。
+     */
+    private static final class Background {
+
+        private static final long KEEP_ALIVE_MILLIS = 5 * 1000L;
+        private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(0, 1,
+                KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            final Thread thread = new Thread(runnable, "hyper-rsa-key-pool");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            thread.setContextClassLoader(null);
+            return thread;
+        });
+    }
+}
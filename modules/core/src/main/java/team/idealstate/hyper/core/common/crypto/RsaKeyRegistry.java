@@ -0,0 +1,183 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.crypto;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.codec.Base64Utils;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+import team.idealstate.hyper.core.common.template.LruCache;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+
+/**
+ * <p>RsaKeyRegistry</p>
+ *
+ * <p>按编码内容缓存已解析的 RSA 公钥与私钥，相同内容的密钥只解析一次</p>
+ *
+ * <p>创建于 2026/10/18 18:05</p>
+ *
+ * @author ketikai
+ * @version 1.0.1
+ * @since 1.0.0
+ */
+public abstract class RsaKeyRegistry {
+
+    public static final int DEFAULT_CACHE_CAPACITY = 256;
+    private static final String ALGORITHM = "RSA";
+    private static final ThreadLocal<KeyFactory> KEY_FACTORY = ThreadLocal.withInitial(() -> {
+        try {
+            return KeyFactory.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    });
+    private static volatile LruCache<EncodedKey, Key> cache = new LruCache<>(DEFAULT_CACHE_CAPACITY);
+
+    public static void setCacheCapacity(int capacity) {
+        AssertUtils.isTrue(capacity > 0, "capacity 必须大于 0");
+        cache = new LruCache<>(capacity);
+    }
+
+    public static int getCacheCapacity() {
+        return cache.getCapacity();
+    }
+
+    public static long getCacheHitCount() {
+        return cache.getHitCount();
+    }
+
+    public static long getCacheMissCount() {
+        return cache.getMissCount();
+    }
+
+    public static long getCacheEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * @param key X.509 编码的公钥
+     */
+    @NotNull
+    public static PublicKey getPublicKey(byte @NotNull [] key) {
+        return (PublicKey) get(EncodedKey.PUBLIC, key);
+    }
+
+    /**
+     * @param key PKCS#8 编码的私钥
+     */
+    @NotNull
+    public static PrivateKey getPrivateKey(byte @NotNull [] key) {
+        return (PrivateKey) get(EncodedKey.PRIVATE, key);
+    }
+
+    /**
+     * @param key Base64 编码的 X.509 公钥，即 {@link RsaUtils#exportKey(Key)} 的结果
+     */
+    @NotNull
+    public static PublicKey importPublicKey(byte @NotNull [] key) {
+        return (PublicKey) get(EncodedKey.PUBLIC_BASE64, key);
+    }
+
+    /**
+     * @param key Base64 编码的 PKCS#8 私钥，即 {@link RsaUtils#exportKey(Key)} 的结果
+     */
+    @NotNull
+    public static PrivateKey importPrivateKey(byte @NotNull [] key) {
+        return (PrivateKey) get(EncodedKey.PRIVATE_BASE64, key);
+    }
+
+    @NotNull
+    private static Key get(int type, byte @NotNull [] key) {
+        AssertUtils.notNull(key, "key 不允许为 null");
+        final LruCache<EncodedKey, Key> cache = RsaKeyRegistry.cache;
+        final Key cached = cache.get(new EncodedKey(type, key));
+        if (cached != null) {
+            return cached;
+        }
+        final EncodedKey encodedKey = new EncodedKey(type, key.clone());
+        final Key decoded = decode(encodedKey);
+        cache.put(encodedKey, decoded);
+        return decoded;
+    }
+
+    @NotNull
+    private static Key decode(@NotNull EncodedKey encodedKey) {
+        final KeyFactory keyFactory = KEY_FACTORY.get();
+        try {
+            switch (encodedKey.type) {
+                case EncodedKey.PUBLIC:
+                    return keyFactory.generatePublic(new X509EncodedKeySpec(encodedKey.bytes));
+                case EncodedKey.PRIVATE:
+                    return keyFactory.generatePrivate(new PKCS8EncodedKeySpec(encodedKey.bytes));
+                case EncodedKey.PUBLIC_BASE64:
+                    return keyFactory.generatePublic(new X509EncodedKeySpec(Base64Utils.decode(encodedKey.bytes)));
+                default:
+                    return keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64Utils.decode(encodedKey.bytes)));
+            }
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class EncodedKey {
+
+        private static final int PUBLIC = 0;
+        private static final int PRIVATE = 1;
+        private static final int PUBLIC_BASE64 = 2;
+        private static final int PRIVATE_BASE64 = 3;
+
+        private final int type;
+        private final byte[] bytes;
+        private final int hashCode;
+
+        private EncodedKey(int type, byte[] bytes) {
+            this.type = type;
+            this.bytes = bytes;
+            this.hashCode = 31 * type + Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EncodedKey)) {
+                return false;
+            }
+            final EncodedKey that = (EncodedKey) o;
+            return type == that.type && Arrays.equals(bytes, that.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
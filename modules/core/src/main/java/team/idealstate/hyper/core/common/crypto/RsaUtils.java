@@ -20,14 +20,8 @@ package team.idealstate.hyper.core.common.crypto;
 import org.jetbrains.annotations.NotNull;
 import team.idealstate.hyper.core.common.codec.Base64Utils;
 
-import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
 import java.security.*;
-import java.security.spec.InvalidKeySpecException;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.security.spec.X509EncodedKeySpec;
 
 /**
  * <p>RsaUtils</p>
@@ -35,47 +29,49 @@ import java.security.spec.X509EncodedKeySpec;
  * <p>创建于 2024/1/22 13:30</p>
  *
  * @author ketikai
- * @version 1.0.0
+ * @version 1.0.4
  * @since 1.0.0
  */
 public abstract class RsaUtils {
 
     private static final int KEY_SIZE = 2048;
+    private static final String TRANSFORMATION = "RSA/ECB/PKCS1Padding";
 
     @NotNull
     public static KeyPair generate() {
         return generate(KEY_SIZE);
     }
 
+    /**
+     * 共享密钥长度从 {@link RsaKeyPool} 中取出预先生成的密钥对，其它密钥长度直接生成。
+     *
+     * @see RsaKeyPool#isShared(int)
+     */
     @NotNull
     public static KeyPair generate(int keySize) {
-        try {
-            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
-            generator.initialize(keySize, SecureRandom.getInstanceStrong());
-            return generator.generateKeyPair();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException(e);
-        }
+        return RsaKeyPool.isShared(keySize) ? RsaKeyPool.of(keySize).take() : RsaKeyPool.generate(keySize);
+    }
+
+    /**
+     * @param strong 为 {@code true} 时绕过密钥池，使用可能阻塞的强随机数在当前线程中生成
+     */
+    @NotNull
+    public static KeyPair generate(int keySize, boolean strong) {
+        return strong ? RsaKeyPool.generate(keySize, true) : generate(keySize);
     }
 
     public static byte[] encrypt(@NotNull Key key, byte[] data) {
         try {
-            Cipher cipher = Cipher.getInstance("RSA/ECB/PKCS1Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, key);
-            return cipher.doFinal(data);
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException | IllegalBlockSizeException |
-                 BadPaddingException e) {
+            return CipherPool.doFinal(TRANSFORMATION, Cipher.ENCRYPT_MODE, key, data);
+        } catch (GeneralSecurityException e) {
             throw new RuntimeException(e);
         }
     }
 
     public static byte[] decrypt(@NotNull Key key, byte[] data) {
         try {
-            Cipher cipher = Cipher.getInstance("RSA/ECB/PKCS1Padding");
-            cipher.init(Cipher.DECRYPT_MODE, key);
-            return cipher.doFinal(data);
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException | IllegalBlockSizeException |
-                 BadPaddingException e) {
+            return CipherPool.doFinal(TRANSFORMATION, Cipher.DECRYPT_MODE, key, data);
+        } catch (GeneralSecurityException e) {
             throw new RuntimeException(e);
         }
     }
@@ -89,24 +85,22 @@ public abstract class RsaUtils {
     }
 
     @NotNull
-    public static PublicKey generatePublicKey(byte[] key) {
-        try {
-            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-            X509EncodedKeySpec publicKeySpec = new X509EncodedKeySpec(key);
-            return keyFactory.generatePublic(publicKeySpec);
-        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
-            throw new RuntimeException(e);
-        }
+    public static PublicKey importPublicKey(byte @NotNull [] key) {
+        return RsaKeyRegistry.importPublicKey(key);
     }
 
     @NotNull
-    public static PrivateKey generatePrivateKey(byte[] key) {
-        try {
-            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-            PKCS8EncodedKeySpec privateKeySpec = new PKCS8EncodedKeySpec(key);
-            return keyFactory.generatePrivate(privateKeySpec);
-        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
-            throw new RuntimeException(e);
-        }
+    public static PrivateKey importPrivateKey(byte @NotNull [] key) {
+        return RsaKeyRegistry.importPrivateKey(key);
+    }
+
+    @NotNull
+    public static PublicKey generatePublicKey(byte @NotNull [] key) {
+        return RsaKeyRegistry.getPublicKey(key);
+    }
+
+    @NotNull
+    public static PrivateKey generatePrivateKey(byte @NotNull [] key) {
+        return RsaKeyRegistry.getPrivateKey(key);
     }
 }
@@ -0,0 +1,101 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.crypto;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * <p>SecureRandomUtils</p>
+ *
+ * <p>提供共享的非阻塞 {@link SecureRandom}，避免 {@link SecureRandom#getInstanceStrong()} 在熵不足时阻塞</p>
+ *
+ * <p>创建于 2026/10/18 17:05</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class SecureRandomUtils {
+
+    private static final String[] NON_BLOCKING_ALGORITHMS = {"NativePRNGNonBlocking", "DRBG"};
+
+    /**
+     * 依次尝试 NativePRNGNonBlocking、DRBG，均不可用时回退到平台默认实现，三者都不会阻塞等待熵。
+     */
+    @NotNull
+    public static SecureRandom getSecureRandom() {
+        return NonBlockingHolder.INSTANCE;
+    }
+
+    /**
+     * 平台配置的强随机数实现，在熵不足时可能阻塞，仅供明确需要的调用者使用。
+     */
+    @NotNull
+    public static SecureRandom getStrongSecureRandom() {
+        return StrongHolder.INSTANCE;
+    }
+
+    @NotNull
+    public static SecureRandom getSecureRandom(boolean strong) {
+        return strong ? getStrongSecureRandom() : getSecureRandom();
+    }
+
+    public static byte[] nextBytes(int length) {
+        return nextBytes(length, false);
+    }
+
+    public static byte[] nextBytes(int length, boolean strong) {
+        AssertUtils.isTrue(length >= 0, "length 不允许为负数");
+        final byte[] bytes = new byte[length];
+        getSecureRandom(strong).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static final class NonBlockingHolder {
+
+        private static final SecureRandom INSTANCE = create();
+
+        @NotNull
+        private static SecureRandom create() {
+            for (String algorithm : NON_BLOCKING_ALGORITHMS) {
+                try {
+                    return SecureRandom.getInstance(algorithm);
+                } catch (NoSuchAlgorithmException ignored) {
+                }
+            }
+            return new SecureRandom();
+        }
+    }
+
+    private static final class StrongHolder {
+
+        private static final SecureRandom INSTANCE;
+
+        static {
+            try {
+                INSTANCE = SecureRandom.getInstanceStrong();
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
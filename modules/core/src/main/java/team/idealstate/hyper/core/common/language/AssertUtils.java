@@ -21,28 +21,63 @@ import team.idealstate.hyper.core.common.string.StringUtils;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * <p>AssertUtils</p>
  *
+ * <p>除 {@link String} 消息外，还提供 {@link Supplier}（以 {@code Lazy} 结尾的方法）及格式化模板（{@link String#format(String, Object...)}）形式的消息，
+ * 消息只会在断言失败时构建</p>
+ *
  * <p>创建于 2024/2/4 14:43</p>
  *
  * @author ketikai
- * @version 1.0.0
+ * @version 1.0.2
  * @since 1.0.0
  */
 @SuppressWarnings({"rawtypes"})
 public abstract class AssertUtils {
 
-    public static void isTrue(Boolean expression, String message) {
-        if (!Boolean.TRUE.equals(expression)) {
-            if (message == null) {
-                throw new IllegalArgumentException();
-            }
-            throw new IllegalArgumentException(message);
+    public static void isTrue(boolean expression, String message) {
+        if (!expression) {
+            throw newException(message);
         }
     }
 
+    public static void isTrueLazy(boolean expression, Supplier<String> messageSupplier) {
+        if (!expression) {
+            throw newException(messageSupplier);
+        }
+    }
+
+    public static void isTrue(boolean expression, String messageTemplate, Object arg) {
+        if (!expression) {
+            throw newException(messageTemplate, arg);
+        }
+    }
+
+    public static void isTrue(boolean expression, String messageTemplate, Object arg1, Object arg2) {
+        if (!expression) {
+            throw newException(messageTemplate, arg1, arg2);
+        }
+    }
+
+    public static void isTrue(Boolean expression, String message) {
+        isTrue(Boolean.TRUE.equals(expression), message);
+    }
+
+    public static void isFalse(boolean expression, String message) {
+        isTrue(!expression, message);
+    }
+
+    public static void isFalseLazy(boolean expression, Supplier<String> messageSupplier) {
+        isTrueLazy(!expression, messageSupplier);
+    }
+
+    public static void isFalse(boolean expression, String messageTemplate, Object arg) {
+        isTrue(!expression, messageTemplate, arg);
+    }
+
     public static void isFalse(Boolean expression, String message) {
         isTrue(!Boolean.TRUE.equals(expression), message);
     }
@@ -51,35 +86,98 @@ public abstract class AssertUtils {
         isTrue(object == null, message);
     }
 
+    public static void isNullLazy(Object object, Supplier<String> messageSupplier) {
+        isTrueLazy(object == null, messageSupplier);
+    }
+
     public static void notNull(Object object, String message) {
         isTrue(object != null, message);
     }
 
+    public static void notNullLazy(Object object, Supplier<String> messageSupplier) {
+        isTrueLazy(object != null, messageSupplier);
+    }
+
+    public static void notNull(Object object, String messageTemplate, Object arg) {
+        isTrue(object != null, messageTemplate, arg);
+    }
+
     public static void isEmpty(Map map, String message) {
         isTrue(map == null || map.isEmpty(), message);
     }
 
+    public static void isEmptyLazy(Map map, Supplier<String> messageSupplier) {
+        isTrueLazy(map == null || map.isEmpty(), messageSupplier);
+    }
+
     public static void notEmpty(Map map, String message) {
         isTrue(map != null && !map.isEmpty(), message);
     }
 
+    public static void notEmptyLazy(Map map, Supplier<String> messageSupplier) {
+        isTrueLazy(map != null && !map.isEmpty(), messageSupplier);
+    }
+
     public static void isEmpty(Collection collection, String message) {
         isTrue(collection == null || collection.isEmpty(), message);
     }
 
+    public static void isEmptyLazy(Collection collection, Supplier<String> messageSupplier) {
+        isTrueLazy(collection == null || collection.isEmpty(), messageSupplier);
+    }
+
     public static void notEmpty(Collection collection, String message) {
         isTrue(collection != null && !collection.isEmpty(), message);
     }
 
+    public static void notEmptyLazy(Collection collection, Supplier<String> messageSupplier) {
+        isTrueLazy(collection != null && !collection.isEmpty(), messageSupplier);
+    }
+
     public static void notBlank(CharSequence string, String message) {
         isTrue(!StringUtils.isBlank(string), message);
     }
 
+    public static void notBlankLazy(CharSequence string, Supplier<String> messageSupplier) {
+        isTrueLazy(!StringUtils.isBlank(string), messageSupplier);
+    }
+
+    public static void notBlank(CharSequence string, String messageTemplate, Object arg) {
+        isTrue(!StringUtils.isBlank(string), messageTemplate, arg);
+    }
+
     public static void isNumeric(CharSequence string, String message) {
         isTrue(StringUtils.isNumeric(string), message);
     }
 
+    public static void isNumericLazy(CharSequence string, Supplier<String> messageSupplier) {
+        isTrueLazy(StringUtils.isNumeric(string), messageSupplier);
+    }
+
     public static void isIntegral(CharSequence string, String message) {
         isTrue(StringUtils.isIntegral(string), message);
     }
+
+    public static void isIntegralLazy(CharSequence string, Supplier<String> messageSupplier) {
+        isTrueLazy(StringUtils.isIntegral(string), messageSupplier);
+    }
+
+    public static void isIntegral(CharSequence string, String messageTemplate, Object arg) {
+        isTrue(StringUtils.isIntegral(string), messageTemplate, arg);
+    }
+
+    private static IllegalArgumentException newException(String message) {
+        if (message == null) {
+            return new IllegalArgumentException();
+        }
+        return new IllegalArgumentException(message);
+    }
+
+    private static IllegalArgumentException newException(Supplier<String> messageSupplier) {
+        return newException(messageSupplier == null ? null : messageSupplier.get());
+    }
+
+    private static IllegalArgumentException newException(String messageTemplate, Object... args) {
+        return newException(messageTemplate == null ? null : String.format(messageTemplate, args));
+    }
 }
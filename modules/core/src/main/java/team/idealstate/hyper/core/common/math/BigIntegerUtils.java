@@ -19,10 +19,14 @@ package team.idealstate.hyper.core.common.math;
 
 import org.jetbrains.annotations.NotNull;
 import team.idealstate.hyper.core.common.language.AssertUtils;
+import team.idealstate.hyper.core.common.template.LruCache;
 
 import java.math.BigInteger;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collector;
 
 /**
  * <p>BigIntegerUtils</p>
@@ -30,44 +34,90 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>创建于 2024/1/28 13:15</p>
  *
  * @author ketikai
- * @version 1.0.2
+ * @version 1.0.8
  * @since 1.0.2
  */
 public abstract class BigIntegerUtils {
-    private static final Map<String, BigInteger> CACHE = new ConcurrentHashMap<>(128, 0.6F);
+    public static final int DEFAULT_CACHE_CAPACITY = 4096;
+    private static final int PARALLEL_THRESHOLD = 2048;
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    private static final LongAdder MISS_COUNT = new LongAdder();
+    private static volatile LruCache<String, BigInteger> cache = new LruCache<>(parseCacheCapacity(DEFAULT_CACHE_CAPACITY));
+    private static volatile LruCache<BigInteger, BigInteger> resultCache = new LruCache<>(resultCacheCapacity(DEFAULT_CACHE_CAPACITY));
+    private static volatile boolean cacheResults = true;
     public static final BigInteger ZERO = valueOf("0");
 
+    /**
+     * 设置缓存的总容量，由字符串解析缓存与结果驻留缓存平分。
+     */
+    public static void setCacheCapacity(int capacity) {
+        AssertUtils.isTrue(capacity > 1, "capacity 必须大于 1");
+        cache = new LruCache<>(parseCacheCapacity(capacity));
+        resultCache = new LruCache<>(resultCacheCapacity(capacity));
+        HIT_COUNT.reset();
+        MISS_COUNT.reset();
+    }
+
+    /**
+     * @return 两个缓存的容量之和
+     */
+    public static int getCacheCapacity() {
+        return cache.getCapacity() + resultCache.getCapacity();
+    }
+
+    public static void setCacheResults(boolean cacheResults) {
+        BigIntegerUtils.cacheResults = cacheResults;
+    }
+
+    public static boolean isCacheResults() {
+        return cacheResults;
+    }
+
+    /**
+     * 每次 {@link #valueOf(String)} 或结果驻留只计一次命中或未命中。
+     */
+    public static long getCacheHitCount() {
+        return HIT_COUNT.sum();
+    }
+
+    public static long getCacheMissCount() {
+        return MISS_COUNT.sum();
+    }
+
+    public static long getCacheEvictionCount() {
+        return cache.getEvictionCount() + resultCache.getEvictionCount();
+    }
+
+    public static void clearCache() {
+        cache.clear();
+        resultCache.clear();
+    }
+
     @NotNull
     public static BigInteger valueOf(@NotNull String integer) {
-        AssertUtils.isIntegral(integer, "integer 必须是一个整数");
-        int length = integer.length();
-        if (length > 1) {
-            Integer lastOfZeroIndex = null;
-            for (int i = 0; i < length; i++) {
-                if (integer.charAt(i) != '0') {
-                    break;
-                }
-                lastOfZeroIndex = i;
-            }
-            if (lastOfZeroIndex != null) {
-                integer = integer.substring(lastOfZeroIndex + 1);
-            }
+        AssertUtils.notNull(integer, "integer 必须是一个整数");
+        final LruCache<String, BigInteger> cache = BigIntegerUtils.cache;
+        BigInteger value = cache.get(integer);
+        if (value != null) {
+            HIT_COUNT.increment();
+            return value;
         }
-        return CACHE.computeIfAbsent(integer, BigInteger::new);
+        MISS_COUNT.increment();
+        value = intern(IntegerParser.parse(integer, "integer 必须是一个整数").toBigInteger(), false);
+        final BigInteger existing = cache.putIfAbsent(integer, value);
+        return existing == null ? value : existing;
     }
 
     @NotNull
     public static BigInteger valueOf(long integer) {
-        return CACHE.computeIfAbsent(String.valueOf(integer), BigInteger::new);
+        return intern(BigInteger.valueOf(integer), true);
     }
 
     @NotNull
     public static BigInteger add(@NotNull String integer, @NotNull String augend) {
-        AssertUtils.isIntegral(integer, "integer 必须是一个整数");
-        AssertUtils.isIntegral(augend, "augend 必须是一个整数");
-        BigInteger ret = valueOf(integer).add(valueOf(augend));
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        BigInteger ret = IntegerParser.parse(integer, "integer 必须是一个整数")
+                .add(IntegerParser.parse(augend, "augend 必须是一个整数")).toBigInteger();
+        return cacheResult(ret);
     }
 
     @NotNull
@@ -75,17 +125,14 @@ public abstract class BigIntegerUtils {
         AssertUtils.notNull(integer, "integer 必须是一个整数");
         AssertUtils.notNull(augend, "augend 必须是一个整数");
         BigInteger ret = integer.add(augend);
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        return cacheResult(ret);
     }
 
     @NotNull
     public static BigInteger subtract(@NotNull String integer, @NotNull String subtrahend) {
-        AssertUtils.isIntegral(integer, "integer 必须是一个整数");
-        AssertUtils.isIntegral(subtrahend, "subtrahend 必须是一个整数");
-        BigInteger ret = valueOf(integer).subtract(valueOf(subtrahend));
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        BigInteger ret = IntegerParser.parse(integer, "integer 必须是一个整数")
+                .subtract(IntegerParser.parse(subtrahend, "subtrahend 必须是一个整数")).toBigInteger();
+        return cacheResult(ret);
     }
 
     @NotNull
@@ -93,17 +140,14 @@ public abstract class BigIntegerUtils {
         AssertUtils.notNull(integer, "integer 必须是一个整数");
         AssertUtils.notNull(subtrahend, "subtrahend 必须是一个整数");
         BigInteger ret = integer.subtract(subtrahend);
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        return cacheResult(ret);
     }
 
     @NotNull
     public static BigInteger multiply(@NotNull String integer, @NotNull String multiplicand) {
-        AssertUtils.isIntegral(integer, "integer 必须是一个整数");
-        AssertUtils.isIntegral(multiplicand, "multiplicand 必须是一个整数");
-        BigInteger ret = valueOf(integer).multiply(valueOf(multiplicand));
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        BigInteger ret = IntegerParser.parse(integer, "integer 必须是一个整数")
+                .multiply(IntegerParser.parse(multiplicand, "multiplicand 必须是一个整数")).toBigInteger();
+        return cacheResult(ret);
     }
 
     @NotNull
@@ -111,17 +155,14 @@ public abstract class BigIntegerUtils {
         AssertUtils.notNull(integer, "integer 必须是一个整数");
         AssertUtils.notNull(multiplicand, "multiplicand 必须是一个整数");
         BigInteger ret = integer.multiply(multiplicand);
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        return cacheResult(ret);
     }
 
     @NotNull
     public static BigInteger divide(@NotNull String integer, @NotNull String divisor) {
-        AssertUtils.isIntegral(integer, "integer 必须是一个整数");
-        AssertUtils.isIntegral(divisor, "divisor 必须是一个整数");
-        BigInteger ret = valueOf(integer).divide(valueOf(divisor));
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        BigInteger ret = IntegerParser.parse(integer, "integer 必须是一个整数")
+                .divide(IntegerParser.parse(divisor, "divisor 必须是一个整数")).toBigInteger();
+        return cacheResult(ret);
     }
 
     @NotNull
@@ -129,17 +170,14 @@ public abstract class BigIntegerUtils {
         AssertUtils.notNull(integer, "integer 必须是一个整数");
         AssertUtils.notNull(divisor, "divisor 必须是一个整数");
         BigInteger ret = integer.divide(divisor);
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        return cacheResult(ret);
     }
 
     @NotNull
     public static BigInteger mod(@NotNull String integer, @NotNull String m) {
-        AssertUtils.isIntegral(integer, "integer 必须是一个整数");
-        AssertUtils.isIntegral(m, "m 必须是一个整数");
-        BigInteger ret = valueOf(integer).mod(valueOf(m));
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        BigInteger ret = IntegerParser.parse(integer, "integer 必须是一个整数")
+                .mod(IntegerParser.parse(m, "m 必须是一个整数")).toBigInteger();
+        return cacheResult(ret);
     }
 
     @NotNull
@@ -147,17 +185,14 @@ public abstract class BigIntegerUtils {
         AssertUtils.notNull(integer, "integer 必须是一个整数");
         AssertUtils.notNull(m, "m 必须是一个整数");
         BigInteger ret = integer.mod(m);
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        return cacheResult(ret);
     }
 
     @NotNull
     public static BigInteger min(@NotNull String integer, @NotNull String val) {
-        AssertUtils.isIntegral(integer, "integer 必须是一个整数");
-        AssertUtils.isIntegral(val, "val 必须是一个整数");
-        BigInteger ret = valueOf(integer).min(valueOf(val));
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        BigInteger ret = IntegerParser.parse(integer, "integer 必须是一个整数")
+                .min(IntegerParser.parse(val, "val 必须是一个整数")).toBigInteger();
+        return cacheResult(ret);
     }
 
     @NotNull
@@ -165,17 +200,14 @@ public abstract class BigIntegerUtils {
         AssertUtils.notNull(integer, "integer 必须是一个整数");
         AssertUtils.notNull(val, "val 必须是一个整数");
         BigInteger ret = integer.min(val);
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        return cacheResult(ret);
     }
 
     @NotNull
     public static BigInteger max(@NotNull String integer, @NotNull String val) {
-        AssertUtils.isIntegral(integer, "integer 必须是一个整数");
-        AssertUtils.isIntegral(val, "val 必须是一个整数");
-        BigInteger ret = valueOf(integer).max(valueOf(val));
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        BigInteger ret = IntegerParser.parse(integer, "integer 必须是一个整数")
+                .max(IntegerParser.parse(val, "val 必须是一个整数")).toBigInteger();
+        return cacheResult(ret);
     }
 
     @NotNull
@@ -183,7 +215,223 @@ public abstract class BigIntegerUtils {
         AssertUtils.notNull(integer, "integer 必须是一个整数");
         AssertUtils.notNull(val, "val 必须是一个整数");
         BigInteger ret = integer.max(val);
-        CACHE.putIfAbsent(ret.toString(), ret);
-        return ret;
+        return cacheResult(ret);
+    }
+
+    @NotNull
+    public static BigInteger sum(@NotNull Iterable<? extends CharSequence> integers) {
+        AssertUtils.notNull(integers, "integers 不允许为 null");
+        SumAccumulator accumulator = new SumAccumulator();
+        for (CharSequence integer : integers) {
+            accumulator.add(parseElement(integer));
+        }
+        return cacheResult(accumulator.get());
+    }
+
+    @NotNull
+    public static BigInteger sum(long @NotNull [] integers) {
+        AssertUtils.notNull(integers, "integers 不允许为 null");
+        return cacheResult(sumRange(integers, 0, integers.length).get());
+    }
+
+    @NotNull
+    public static BigInteger parallelSum(@NotNull List<? extends CharSequence> integers) {
+        return parallelSum(integers, ForkJoinPool.commonPool());
+    }
+
+    @NotNull
+    public static BigInteger parallelSum(@NotNull List<? extends CharSequence> integers, @NotNull ForkJoinPool pool) {
+        AssertUtils.notNull(integers, "integers 不允许为 null");
+        AssertUtils.notNull(pool, "pool 不允许为 null");
+        return cacheResult(pool.invoke(new SumTask(integers, null, 0, integers.size())).get());
+    }
+
+    @NotNull
+    public static BigInteger parallelSum(long @NotNull [] integers) {
+        return parallelSum(integers, ForkJoinPool.commonPool());
+    }
+
+    @NotNull
+    public static BigInteger parallelSum(long @NotNull [] integers, @NotNull ForkJoinPool pool) {
+        AssertUtils.notNull(integers, "integers 不允许为 null");
+        AssertUtils.notNull(pool, "pool 不允许为 null");
+        return cacheResult(pool.invoke(new SumTask(null, integers, 0, integers.length)).get());
+    }
+
+    @NotNull
+    public static BigInteger product(@NotNull Iterable<? extends CharSequence> integers) {
+        AssertUtils.notNull(integers, "integers 不允许为 null");
+        ProductAccumulator accumulator = new ProductAccumulator();
+        for (CharSequence integer : integers) {
+            accumulator.multiply(parseElement(integer));
+        }
+        return cacheResult(accumulator.get());
+    }
+
+    @NotNull
+    public static BigInteger product(long @NotNull [] integers) {
+        AssertUtils.notNull(integers, "integers 不允许为 null");
+        return cacheResult(productRange(integers, 0, integers.length).get());
+    }
+
+    @NotNull
+    public static BigInteger parallelProduct(@NotNull List<? extends CharSequence> integers) {
+        return parallelProduct(integers, ForkJoinPool.commonPool());
+    }
+
+    @NotNull
+    public static BigInteger parallelProduct(@NotNull List<? extends CharSequence> integers, @NotNull ForkJoinPool pool) {
+        AssertUtils.notNull(integers, "integers 不允许为 null");
+        AssertUtils.notNull(pool, "pool 不允许为 null");
+        return cacheResult(pool.invoke(new ProductTask(integers, null, 0, integers.size())).get());
+    }
+
+    @NotNull
+    public static BigInteger parallelProduct(long @NotNull [] integers) {
+        return parallelProduct(integers, ForkJoinPool.commonPool());
+    }
+
+    @NotNull
+    public static BigInteger parallelProduct(long @NotNull [] integers, @NotNull ForkJoinPool pool) {
+        AssertUtils.notNull(integers, "integers 不允许为 null");
+        AssertUtils.notNull(pool, "pool 不允许为 null");
+        return cacheResult(pool.invoke(new ProductTask(null, integers, 0, integers.length)).get());
+    }
+
+    @NotNull
+    public static Collector<CharSequence, ?, BigInteger> summing() {
+        return Collector.of(
+                SumAccumulator::new,
+                (accumulator, integer) -> accumulator.add(parseElement(integer)),
+                SumAccumulator::combine,
+                accumulator -> cacheResult(accumulator.get())
+        );
+    }
+
+    @NotNull
+    public static Collector<CharSequence, ?, BigInteger> multiplying() {
+        return Collector.of(
+                ProductAccumulator::new,
+                (accumulator, integer) -> accumulator.multiply(parseElement(integer)),
+                ProductAccumulator::combine,
+                accumulator -> cacheResult(accumulator.get())
+        );
+    }
+
+    @NotNull
+    private static HybridInteger parseElement(CharSequence element) {
+        return IntegerParser.parse(element, "element 必须是一个整数");
+    }
+
+    @NotNull
+    private static SumAccumulator sumRange(long @NotNull [] integers, int from, int to) {
+        SumAccumulator accumulator = new SumAccumulator();
+        for (int i = from; i < to; i++) {
+            accumulator.add(integers[i]);
+        }
+        return accumulator;
+    }
+
+    @NotNull
+    private static ProductAccumulator productRange(long @NotNull [] integers, int from, int to) {
+        ProductAccumulator accumulator = new ProductAccumulator();
+        for (int i = from; i < to; i++) {
+            accumulator.multiply(integers[i]);
+        }
+        return accumulator;
+    }
+
+    @NotNull
+    private static BigInteger cacheResult(@NotNull BigInteger result) {
+        return cacheResults ? intern(result, true) : result;
+    }
+
+    @NotNull
+    private static BigInteger intern(@NotNull BigInteger integer, boolean count) {
+        BigInteger interned = resultCache.putIfAbsent(integer, integer);
+        if (count) {
+            (interned == null ? MISS_COUNT : HIT_COUNT).increment();
+        }
+        return interned == null ? integer : interned;
+    }
+
+    private static int parseCacheCapacity(int capacity) {
+        return capacity - resultCacheCapacity(capacity);
+    }
+
+    private static int resultCacheCapacity(int capacity) {
+        return capacity / 2;
+    }
+
+    private static final class SumTask extends RecursiveTask<SumAccumulator> {
+
+        private static final long serialVersionUID = 3160468307711263104L;
+
+        private final List<? extends CharSequence> integers;
+        private final long[] longs;
+        private final int from;
+        private final int to;
+
+        private SumTask(List<? extends CharSequence> integers, long[] longs, int from, int to) {
+            this.integers = integers;
+            this.longs = longs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SumAccumulator compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                if (longs != null) {
+                    return sumRange(longs, from, to);
+                }
+                SumAccumulator accumulator = new SumAccumulator();
+                for (int i = from; i < to; i++) {
+                    accumulator.add(parseElement(integers.get(i)));
+                }
+                return accumulator;
+            }
+            final int middle = (from + to) >>> 1;
+            SumTask left = new SumTask(integers, longs, from, middle);
+            left.fork();
+            SumAccumulator right = new SumTask(integers, longs, middle, to).compute();
+            return left.join().combine(right);
+        }
+    }
+
+    private static final class ProductTask extends RecursiveTask<ProductAccumulator> {
+
+        private static final long serialVersionUID = -5528740281949806620L;
+
+        private final List<? extends CharSequence> integers;
+        private final long[] longs;
+        private final int from;
+        private final int to;
+
+        private ProductTask(List<? extends CharSequence> integers, long[] longs, int from, int to) {
+            this.integers = integers;
+            this.longs = longs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ProductAccumulator compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                if (longs != null) {
+                    return productRange(longs, from, to);
+                }
+                ProductAccumulator accumulator = new ProductAccumulator();
+                for (int i = from; i < to; i++) {
+                    accumulator.multiply(parseElement(integers.get(i)));
+                }
+                return accumulator;
+            }
+            final int middle = (from + to) >>> 1;
+            ProductTask left = new ProductTask(integers, longs, from, middle);
+            left.fork();
+            ProductAccumulator right = new ProductTask(integers, longs, middle, to).compute();
+            return left.join().combine(right);
+        }
     }
 }
@@ -0,0 +1,238 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.math;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import java.math.BigInteger;
+
+/**
+ * <p>HybridInteger</p>
+ *
+ * <p>优先以 long 保存的不可变整数，运算溢出时才提升为 {@link BigInteger}</p>
+ *
+ * <p>创建于 2026/10/18 12:30</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class HybridInteger extends Number implements Comparable<HybridInteger> {
+
+    private static final long serialVersionUID = 2381946712364203151L;
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final HybridInteger[] SMALL_VALUES = new HybridInteger[256];
+    public static final HybridInteger ZERO;
+    public static final HybridInteger ONE;
+
+    static {
+        for (int i = 0; i < SMALL_VALUES.length; i++) {
+            SMALL_VALUES[i] = new HybridInteger(i - 128, null);
+        }
+        ZERO = valueOf(0L);
+        ONE = valueOf(1L);
+    }
+
+    private final long value;
+    private final BigInteger bigValue;
+
+    private HybridInteger(long value, BigInteger bigValue) {
+        this.value = value;
+        this.bigValue = bigValue;
+    }
+
+    @NotNull
+    public static HybridInteger valueOf(long integer) {
+        if (integer >= -128 && integer < 128) {
+            return SMALL_VALUES[(int) integer + 128];
+        }
+        return new HybridInteger(integer, null);
+    }
+
+    @NotNull
+    public static HybridInteger valueOf(@NotNull BigInteger integer) {
+        AssertUtils.notNull(integer, "integer 必须是一个整数");
+        if (integer.bitLength() < Long.SIZE) {
+            return valueOf(integer.longValue());
+        }
+        return new HybridInteger(0L, integer);
+    }
+
+    @NotNull
+    public static HybridInteger valueOf(@NotNull String integer) {
+        return IntegerParser.parse(integer, "integer 必须是一个整数");
+    }
+
+    public boolean isLong() {
+        return bigValue == null;
+    }
+
+    @NotNull
+    public BigInteger toBigInteger() {
+        return bigValue == null ? BigInteger.valueOf(value) : bigValue;
+    }
+
+    @NotNull
+    public HybridInteger add(@NotNull HybridInteger augend) {
+        AssertUtils.notNull(augend, "augend 必须是一个整数");
+        if (bigValue == null && augend.bigValue == null) {
+            try {
+                return valueOf(Math.addExact(value, augend.value));
+            } catch (ArithmeticException ignored) {
+            }
+        }
+        return valueOf(toBigInteger().add(augend.toBigInteger()));
+    }
+
+    @NotNull
+    public HybridInteger subtract(@NotNull HybridInteger subtrahend) {
+        AssertUtils.notNull(subtrahend, "subtrahend 必须是一个整数");
+        if (bigValue == null && subtrahend.bigValue == null) {
+            try {
+                return valueOf(Math.subtractExact(value, subtrahend.value));
+            } catch (ArithmeticException ignored) {
+            }
+        }
+        return valueOf(toBigInteger().subtract(subtrahend.toBigInteger()));
+    }
+
+    @NotNull
+    public HybridInteger multiply(@NotNull HybridInteger multiplicand) {
+        AssertUtils.notNull(multiplicand, "multiplicand 必须是一个整数");
+        if (bigValue == null && multiplicand.bigValue == null) {
+            try {
+                return valueOf(Math.multiplyExact(value, multiplicand.value));
+            } catch (ArithmeticException ignored) {
+            }
+        }
+        return valueOf(toBigInteger().multiply(multiplicand.toBigInteger()));
+    }
+
+    @NotNull
+    public HybridInteger divide(@NotNull HybridInteger divisor) {
+        AssertUtils.notNull(divisor, "divisor 必须是一个整数");
+        if (bigValue == null && divisor.bigValue == null) {
+            if (divisor.value == 0L) {
+                throw new ArithmeticException("BigInteger divide by zero");
+            }
+            if (value != Long.MIN_VALUE || divisor.value != -1L) {
+                return valueOf(value / divisor.value);
+            }
+        }
+        return valueOf(toBigInteger().divide(divisor.toBigInteger()));
+    }
+
+    @NotNull
+    public HybridInteger mod(@NotNull HybridInteger m) {
+        AssertUtils.notNull(m, "m 必须是一个整数");
+        if (bigValue == null && m.bigValue == null) {
+            if (m.value <= 0L) {
+                throw new ArithmeticException("BigInteger: modulus not positive");
+            }
+            return valueOf(Math.floorMod(value, m.value));
+        }
+        return valueOf(toBigInteger().mod(m.toBigInteger()));
+    }
+
+    @NotNull
+    public HybridInteger negate() {
+        if (bigValue == null) {
+            if (value != Long.MIN_VALUE) {
+                return valueOf(-value);
+            }
+            return valueOf(LONG_MIN.negate());
+        }
+        return valueOf(bigValue.negate());
+    }
+
+    @NotNull
+    public HybridInteger min(@NotNull HybridInteger val) {
+        return compareTo(val) <= 0 ? this : val;
+    }
+
+    @NotNull
+    public HybridInteger max(@NotNull HybridInteger val) {
+        return compareTo(val) >= 0 ? this : val;
+    }
+
+    public int signum() {
+        return bigValue == null ? Long.signum(value) : bigValue.signum();
+    }
+
+    @Override
+    public int compareTo(@NotNull HybridInteger other) {
+        AssertUtils.notNull(other, "other 必须是一个整数");
+        if (bigValue == null && other.bigValue == null) {
+            return Long.compare(value, other.value);
+        }
+        return toBigInteger().compareTo(other.toBigInteger());
+    }
+
+    @Override
+    public int intValue() {
+        return bigValue == null ? (int) value : bigValue.intValue();
+    }
+
+    @Override
+    public long longValue() {
+        return bigValue == null ? value : bigValue.longValue();
+    }
+
+    public long longValueExact() {
+        if (bigValue != null) {
+            throw new ArithmeticException("BigInteger out of long range");
+        }
+        return value;
+    }
+
+    @Override
+    public float floatValue() {
+        return bigValue == null ? (float) value : bigValue.floatValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return bigValue == null ? (double) value : bigValue.doubleValue();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof HybridInteger)) {
+            return false;
+        }
+        HybridInteger other = (HybridInteger) obj;
+        if (bigValue == null) {
+            return other.bigValue == null && value == other.value;
+        }
+        return bigValue.equals(other.bigValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return bigValue == null ? Long.hashCode(value) : bigValue.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return bigValue == null ? Long.toString(value) : bigValue.toString();
+    }
+}
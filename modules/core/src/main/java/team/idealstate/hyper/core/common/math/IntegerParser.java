@@ -0,0 +1,128 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.math;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+
+/**
+ * <p>IntegerParser</p>
+ *
+ * <p>单次遍历完成校验、去除前导零和数值构建的整数解析器，
+ * 校验规则与 {@link team.idealstate.hyper.core.common.string.StringUtils#isIntegral(CharSequence)} 一致</p>
+ *
+ * <p>创建于 2026/10/18 13:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class IntegerParser {
+
+    private static final int LONG_SAFE_DIGITS = 18;
+    private static final int INT_CHUNK_DIGITS = 9;
+    private static final int[] INT_POWERS_OF_TEN = {
+            1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000
+    };
+    private static final long INT_MASK = 0xFFFFFFFFL;
+
+    private IntegerParser() {
+    }
+
+    @NotNull
+    static HybridInteger parse(CharSequence integer, String message) {
+        if (integer == null) {
+            throw invalid(message);
+        }
+        final int length = integer.length();
+        if (length == 0) {
+            throw invalid(message);
+        }
+        int index = 0;
+        boolean negative = false;
+        if (integer.charAt(0) == '-') {
+            if (length == 1) {
+                throw invalid(message);
+            }
+            negative = true;
+            index = 1;
+        }
+        while (index < length - 1 && integer.charAt(index) == '0') {
+            index = index + 1;
+        }
+        final int digits = length - index;
+        if (digits <= LONG_SAFE_DIGITS) {
+            long value = 0L;
+            for (; index < length; index++) {
+                value = value * 10L + digit(integer.charAt(index), message);
+            }
+            return HybridInteger.valueOf(negative ? -value : value);
+        }
+        final int[] magnitude = new int[(int) ((((long) digits * 3402L) >>> 10) + 32L >>> 5) + 1];
+        int magnitudeLength = 0;
+        int chunkDigits = digits % INT_CHUNK_DIGITS;
+        if (chunkDigits == 0) {
+            chunkDigits = INT_CHUNK_DIGITS;
+        }
+        while (index < length) {
+            int chunk = 0;
+            final int chunkEnd = index + chunkDigits;
+            for (; index < chunkEnd; index++) {
+                chunk = chunk * 10 + digit(integer.charAt(index), message);
+            }
+            magnitudeLength = multiplyAdd(magnitude, magnitudeLength, INT_POWERS_OF_TEN[chunkDigits], chunk);
+            chunkDigits = INT_CHUNK_DIGITS;
+        }
+        final byte[] bytes = new byte[magnitudeLength << 2];
+        for (int i = 0, j = bytes.length - 1; i < magnitudeLength; i++) {
+            final int word = magnitude[i];
+            bytes[j--] = (byte) word;
+            bytes[j--] = (byte) (word >>> 8);
+            bytes[j--] = (byte) (word >>> 16);
+            bytes[j--] = (byte) (word >>> 24);
+        }
+        return HybridInteger.valueOf(new BigInteger(negative ? -1 : 1, bytes));
+    }
+
+    private static int multiplyAdd(int[] magnitude, int magnitudeLength, int multiplier, int addend) {
+        long carry = addend & INT_MASK;
+        for (int i = 0; i < magnitudeLength; i++) {
+            final long product = (magnitude[i] & INT_MASK) * multiplier + carry;
+            magnitude[i] = (int) product;
+            carry = product >>> 32;
+        }
+        if (carry != 0L) {
+            magnitude[magnitudeLength] = (int) carry;
+            magnitudeLength = magnitudeLength + 1;
+        }
+        return magnitudeLength;
+    }
+
+    private static int digit(char c, String message) {
+        if (c < '0' || c > '9') {
+            throw invalid(message);
+        }
+        return c - '0';
+    }
+
+    @NotNull
+    private static IllegalArgumentException invalid(String message) {
+        return message == null ? new IllegalArgumentException() : new IllegalArgumentException(message);
+    }
+}
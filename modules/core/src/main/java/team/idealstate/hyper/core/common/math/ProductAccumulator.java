@@ -0,0 +1,74 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.math;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+
+/**
+ * <p>ProductAccumulator</p>
+ *
+ * <p>原地累乘的求积器，未溢出的部分以 long 累乘，溢出时才合并至 {@link BigInteger}</p>
+ *
+ * <p>创建于 2026/10/18 13:05</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class ProductAccumulator {
+
+    private long small = 1L;
+    private BigInteger big = null;
+
+    void multiply(long integer) {
+        try {
+            small = Math.multiplyExact(small, integer);
+        } catch (ArithmeticException e) {
+            multiply(BigInteger.valueOf(small));
+            small = integer;
+        }
+    }
+
+    void multiply(@NotNull BigInteger integer) {
+        big = big == null ? integer : big.multiply(integer);
+    }
+
+    void multiply(@NotNull HybridInteger integer) {
+        if (integer.isLong()) {
+            multiply(integer.longValue());
+        } else {
+            multiply(integer.toBigInteger());
+        }
+    }
+
+    @NotNull
+    ProductAccumulator combine(@NotNull ProductAccumulator other) {
+        multiply(other.small);
+        if (other.big != null) {
+            multiply(other.big);
+        }
+        return this;
+    }
+
+    @NotNull
+    BigInteger get() {
+        return big == null ? BigInteger.valueOf(small) : big.multiply(BigInteger.valueOf(small));
+    }
+}
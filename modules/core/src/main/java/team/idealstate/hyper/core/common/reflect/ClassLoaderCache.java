@@ -0,0 +1,142 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.reflect;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>ClassLoaderCache</p>
+ *
+ * <p>按类加载器划分的缓存，类加载器仅被弱引用持有，
+ * 值中不应强引用由该类加载器加载的类，否则类加载器将无法被回收</p>
+ *
+ * <p>创建于 2026/10/18 10:40</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class ClassLoaderCache<V> {
+
+    private final ReferenceQueue<ClassLoader> queue = new ReferenceQueue<>();
+    private final ConcurrentMap<Object, ConcurrentMap<String, V>> caches = new ConcurrentHashMap<>(16, 0.6F);
+    private final ConcurrentMap<String, V> bootstrapCache = new ConcurrentHashMap<>(64, 0.6F);
+
+    @NotNull
+    ConcurrentMap<String, V> of(ClassLoader classLoader) {
+        if (classLoader == null) {
+            return bootstrapCache;
+        }
+        expunge();
+        ConcurrentMap<String, V> cache = caches.get(new LookupKey(classLoader));
+        if (cache == null) {
+            ConcurrentMap<String, V> created = new ConcurrentHashMap<>(64, 0.6F);
+            cache = caches.putIfAbsent(new WeakKey(classLoader, queue), created);
+            if (cache == null) {
+                cache = created;
+            }
+        }
+        return cache;
+    }
+
+    void invalidate(ClassLoader classLoader) {
+        if (classLoader == null) {
+            bootstrapCache.clear();
+            return;
+        }
+        caches.remove(new LookupKey(classLoader));
+        expunge();
+    }
+
+    void invalidateAll() {
+        bootstrapCache.clear();
+        caches.clear();
+        expunge();
+    }
+
+    private void expunge() {
+        Reference<? extends ClassLoader> reference;
+        while ((reference = queue.poll()) != null) {
+            caches.remove(reference);
+        }
+    }
+
+    private static final class WeakKey extends WeakReference<ClassLoader> {
+
+        private final int hash;
+
+        private WeakKey(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+            super(classLoader, queue);
+            this.hash = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            ClassLoader classLoader = get();
+            if (classLoader == null) {
+                return false;
+            }
+            if (obj instanceof WeakKey) {
+                return classLoader == ((WeakKey) obj).get();
+            }
+            if (obj instanceof LookupKey) {
+                return classLoader == ((LookupKey) obj).classLoader;
+            }
+            return false;
+        }
+    }
+
+    private static final class LookupKey {
+
+        private final ClassLoader classLoader;
+
+        private LookupKey(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof WeakKey) {
+                return classLoader == ((WeakKey) obj).get();
+            }
+            return false;
+        }
+    }
+}
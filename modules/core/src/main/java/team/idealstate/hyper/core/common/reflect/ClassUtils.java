@@ -20,10 +20,16 @@ package team.idealstate.hyper.core.common.reflect;
 import org.jetbrains.annotations.NotNull;
 import team.idealstate.hyper.core.common.language.AssertUtils;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>ClassUtils</p>
@@ -31,13 +37,19 @@ import java.util.Set;
  * <p>创建于 2024/2/4 14:43</p>
  *
  * @author ketikai
- * @version 1.0.3
+ * @version 1.0.7
  * @since 1.0.0
  */
 public abstract class ClassUtils {
 
     private static final Set<String> PRIMITIVE_CLASS_NAME_SET;
-    private static final Set<String> PRIMITIVE_TYPE_DESC_SET;
+    private static final Class<?>[] PRIMITIVE_DESC_TABLE = new Class<?>[128];
+    private static final Map<Class<?>, String> PRIMITIVE_CLASS_DESC_MAP = new IdentityHashMap<>(16);
+    private static final long NOT_FOUND_TTL = TimeUnit.SECONDS.toNanos(5);
+    private static final int NOT_FOUND_CACHE_LIMIT = 1024;
+    private static final ClassLoaderCache<Resolution> RESOLUTION_CACHE = new ClassLoaderCache<>();
+    private static final ClassLoaderCache<Resolution> INITIALIZED_RESOLUTION_CACHE = new ClassLoaderCache<>();
+    private static final ClassLoaderCache<AtomicInteger> NOT_FOUND_COUNTS = new ClassLoaderCache<>();
 
     static {
         PRIMITIVE_CLASS_NAME_SET = Collections.unmodifiableSet(
@@ -45,11 +57,20 @@ public abstract class ClassUtils {
                         "void", "boolean", "char", "byte", "short", "int", "float", "long", "double"
                 ))
         );
-        PRIMITIVE_TYPE_DESC_SET = Collections.unmodifiableSet(
-                new HashSet<>(Arrays.asList(
-                        "V", "Z", "C", "B", "S", "I", "F", "J", "D"
-                ))
-        );
+        putPrimitive('V', void.class);
+        putPrimitive('Z', boolean.class);
+        putPrimitive('C', char.class);
+        putPrimitive('B', byte.class);
+        putPrimitive('S', short.class);
+        putPrimitive('I', int.class);
+        putPrimitive('F', float.class);
+        putPrimitive('J', long.class);
+        putPrimitive('D', double.class);
+    }
+
+    private static void putPrimitive(char desc, Class<?> cls) {
+        PRIMITIVE_DESC_TABLE[desc] = cls;
+        PRIMITIVE_CLASS_DESC_MAP.put(cls, String.valueOf(desc));
     }
 
     @NotNull
@@ -83,7 +104,7 @@ public abstract class ClassUtils {
                     return double.class;
             }
         }
-        return Class.forName(name, initialize, classLoader);
+        return resolve(name, initialize, classLoader);
     }
 
     @NotNull
@@ -95,32 +116,81 @@ public abstract class ClassUtils {
     @NotNull
     public static Class<?> forDesc(@NotNull String desc, boolean initialize, ClassLoader classLoader) throws ClassNotFoundException {
         AssertUtils.notBlank(desc, "无效的类型描述");
-        if (isPrimitiveDesc(desc)) {
-            switch (desc) {
-                case "V":
-                    return void.class;
-                case "Z":
-                    return boolean.class;
-                case "C":
-                    return char.class;
-                case "B":
-                    return byte.class;
-                case "S":
-                    return short.class;
-                case "I":
-                    return int.class;
-                case "F":
-                    return float.class;
-                case "J":
-                    return long.class;
-                case "D":
-                    return double.class;
+        if (desc.length() == 1) {
+            char c = desc.charAt(0);
+            if (isPrimitiveDesc(c)) {
+                return PRIMITIVE_DESC_TABLE[c];
             }
         }
         if (desc.startsWith("L")) {
-            return Class.forName(desc.substring(1, desc.length() - 1), initialize, classLoader);
+            return resolve(desc.substring(1, desc.length() - 1), initialize, classLoader);
+        }
+        return resolve(desc, initialize, classLoader);
+    }
+
+    @NotNull
+    public static Class<?> forDesc(char desc) {
+        AssertUtils.isTrue(isPrimitiveDesc(desc), "无效的类型描述");
+        return PRIMITIVE_DESC_TABLE[desc];
+    }
+
+    public static void invalidateCache(ClassLoader classLoader) {
+        RESOLUTION_CACHE.invalidate(classLoader);
+        INITIALIZED_RESOLUTION_CACHE.invalidate(classLoader);
+        NOT_FOUND_COUNTS.invalidate(classLoader);
+        MethodUtils.invalidateDescCache(classLoader);
+    }
+
+    @NotNull
+    private static Class<?> resolve(@NotNull String name, boolean initialize, ClassLoader classLoader) throws ClassNotFoundException {
+        final ConcurrentMap<String, Resolution> cache = (initialize ? INITIALIZED_RESOLUTION_CACHE : RESOLUTION_CACHE).of(classLoader);
+        final AtomicInteger notFoundCount = NOT_FOUND_COUNTS.of(classLoader)
+                .computeIfAbsent(initialize ? "initialized" : "uninitialized", key -> new AtomicInteger());
+        Resolution resolution = cache.get(name);
+        if (resolution != null) {
+            Class<?> cls = resolution.get();
+            if (cls != null) {
+                return cls;
+            }
+            if (resolution.isNotFound() && !resolution.isExpired(System.nanoTime())) {
+                throw new ClassNotFoundException(name);
+            }
+            if (cache.remove(name, resolution) && resolution.isNotFound()) {
+                notFoundCount.decrementAndGet();
+            }
+        }
+        final Class<?> cls;
+        try {
+            cls = Class.forName(name, initialize, classLoader);
+        } catch (ClassNotFoundException e) {
+            if (notFoundCount.get() >= NOT_FOUND_CACHE_LIMIT) {
+                purgeExpired(cache, notFoundCount);
+            }
+            if (notFoundCount.get() < NOT_FOUND_CACHE_LIMIT) {
+                long notFoundUntil = System.nanoTime() + NOT_FOUND_TTL;
+                notFoundCount.incrementAndGet();
+                replaced(cache.put(name, new Resolution(null, notFoundUntil == 0L ? 1L : notFoundUntil)), notFoundCount);
+            }
+            throw e;
+        }
+        replaced(cache.put(name, new Resolution(cls, 0L)), notFoundCount);
+        return cls;
+    }
+
+    private static void replaced(Resolution previous, @NotNull AtomicInteger notFoundCount) {
+        if (previous != null && previous.isNotFound()) {
+            notFoundCount.decrementAndGet();
+        }
+    }
+
+    private static void purgeExpired(@NotNull ConcurrentMap<String, Resolution> cache, @NotNull AtomicInteger notFoundCount) {
+        final long now = System.nanoTime();
+        for (Map.Entry<String, Resolution> entry : cache.entrySet()) {
+            final Resolution resolution = entry.getValue();
+            if (resolution.isNotFound() && resolution.isExpired(now) && cache.remove(entry.getKey(), resolution)) {
+                notFoundCount.decrementAndGet();
+            }
         }
-        return Class.forName(desc, initialize, classLoader);
     }
 
     @NotNull
@@ -132,27 +202,9 @@ public abstract class ClassUtils {
     @NotNull
     public static String getDesc(@NotNull Class<?> cls) {
         AssertUtils.notNull(cls, "无效的类");
-        if (isPrimitiveClass(cls)) {
-            switch (cls.getName()) {
-                case "void":
-                    return "V";
-                case "boolean":
-                    return "Z";
-                case "char":
-                    return "C";
-                case "byte":
-                    return "B";
-                case "short":
-                    return "S";
-                case "int":
-                    return "I";
-                case "float":
-                    return "F";
-                case "long":
-                    return "J";
-                case "double":
-                    return "D";
-            }
+        String desc = PRIMITIVE_CLASS_DESC_MAP.get(cls);
+        if (desc != null) {
+            return desc;
         }
         if (isArrayClass(cls)) {
             return cls.getName();
@@ -167,7 +219,7 @@ public abstract class ClassUtils {
 
     public static boolean isPrimitiveClass(Class<?> cls) {
         AssertUtils.notNull(cls, "无效的类");
-        return PRIMITIVE_CLASS_NAME_SET.contains(cls.getName());
+        return cls.isPrimitive();
     }
 
     public static boolean isPrimitiveName(String name) {
@@ -177,6 +229,28 @@ public abstract class ClassUtils {
 
     public static boolean isPrimitiveDesc(String desc) {
         AssertUtils.notBlank(desc, "无效的类型描述");
-        return PRIMITIVE_TYPE_DESC_SET.contains(desc);
+        return desc.length() == 1 && isPrimitiveDesc(desc.charAt(0));
+    }
+
+    public static boolean isPrimitiveDesc(char desc) {
+        return desc < PRIMITIVE_DESC_TABLE.length && PRIMITIVE_DESC_TABLE[desc] != null;
+    }
+
+    private static final class Resolution extends WeakReference<Class<?>> {
+
+        private final long notFoundUntil;
+
+        private Resolution(Class<?> cls, long notFoundUntil) {
+            super(cls);
+            this.notFoundUntil = notFoundUntil;
+        }
+
+        private boolean isNotFound() {
+            return notFoundUntil != 0L;
+        }
+
+        private boolean isExpired(long now) {
+            return notFoundUntil - now <= 0L;
+        }
     }
 }
@@ -0,0 +1,344 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.reflect;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>Invokers</p>
+ *
+ * <p>基于 {@link MethodHandle} 和 {@link LambdaMetafactory} 的方法调用器工厂，
+ * 无法生成时回退为反射调用，生成结果按方法所属类缓存</p>
+ *
+ * <p>创建于 2026/10/18 11:20</p>
+ *
+ * @author ketikai
+ * @version 1.0.2
+ * @since 1.0.0
+ */
+public abstract class Invokers {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final ClassValue<ConcurrentMap<Object, Object>> CACHE = new ClassValue<ConcurrentMap<Object, Object>>() {
+        @Override
+        protected ConcurrentMap<Object, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>(16, 0.6F);
+        }
+    };
+
+    @NotNull
+    public static Invoker of(@NotNull Method method) {
+        AssertUtils.notNull(method, "无效的方法");
+        final ConcurrentMap<Object, Object> cache = CACHE.get(method.getDeclaringClass());
+        Invoker invoker = (Invoker) cache.get(method);
+        if (invoker == null) {
+            invoker = createInvoker(method);
+            Invoker existing = (Invoker) cache.putIfAbsent(method, invoker);
+            if (existing != null) {
+                invoker = existing;
+            }
+        }
+        return invoker;
+    }
+
+    @NotNull
+    public static Invoker of(@NotNull Class<?> cls, @NotNull String name, @NotNull String desc) throws ClassNotFoundException, NoSuchMethodException {
+        return of(findMethod(cls, name, desc));
+    }
+
+    @NotNull
+    public static <T> T of(@NotNull Method method, @NotNull Class<T> functionalInterface) {
+        AssertUtils.notNull(method, "无效的方法");
+        AssertUtils.notNull(functionalInterface, "无效的函数式接口");
+        final ConcurrentMap<Object, Object> cache = CACHE.get(method.getDeclaringClass());
+        final TypedKey key = new TypedKey(method, functionalInterface);
+        Object invoker = cache.get(key);
+        if (invoker == null) {
+            invoker = createTypedInvoker(method, functionalInterface);
+            Object existing = cache.putIfAbsent(key, invoker);
+            if (existing != null) {
+                invoker = existing;
+            }
+        }
+        return functionalInterface.cast(invoker);
+    }
+
+    @NotNull
+    public static <T> T of(@NotNull Class<?> cls, @NotNull String name, @NotNull String desc, @NotNull Class<T> functionalInterface) throws ClassNotFoundException, NoSuchMethodException {
+        return of(findMethod(cls, name, desc), functionalInterface);
+    }
+
+    @NotNull
+    private static Method findMethod(@NotNull Class<?> cls, @NotNull String name, @NotNull String desc) throws ClassNotFoundException, NoSuchMethodException {
+        AssertUtils.notNull(cls, "无效的类");
+        AssertUtils.notBlank(name, "无效的方法名称");
+        final Class<?>[] types = MethodUtils.resolveDesc(desc, false, cls.getClassLoader());
+        final Class<?>[] paramTypes = Arrays.copyOf(types, types.length - 1);
+        final Class<?> returnType = types[types.length - 1];
+        try {
+            Method method = cls.getMethod(name, paramTypes);
+            if (method.getReturnType() == returnType) {
+                return method;
+            }
+        } catch (NoSuchMethodException ignored) {
+        }
+        for (Class<?> current = cls; current != null; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.getName().equals(name) && method.getReturnType() == returnType
+                        && Arrays.equals(method.getParameterTypes(), paramTypes)) {
+                    return method;
+                }
+            }
+        }
+        throw new NoSuchMethodException(cls.getName() + "." + name + desc);
+    }
+
+    @NotNull
+    private static Invoker createInvoker(@NotNull Method method) {
+        MethodHandle handle = unreflect(method);
+        if (handle != null) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+            return new MethodHandleInvoker(handle);
+        }
+        return new ReflectionInvoker(method);
+    }
+
+    @NotNull
+    private static Object createTypedInvoker(@NotNull Method method, @NotNull Class<?> functionalInterface) {
+        final Method sam = findSam(functionalInterface);
+        final MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+        MethodHandle handle = unreflect(method);
+        if (handle == null) {
+            handle = ReflectionInvoker.INVOKE.bindTo(new ReflectionInvoker(method));
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.insertArguments(handle, 0, (Object) null);
+            }
+            handle = handle.asCollector(Object[].class, method.getParameterCount());
+        }
+        final MethodHandle adapted;
+        try {
+            adapted = handle.asType(samType);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("方法 '" + method + "' 与函数式接口 '" + functionalInterface.getName() + "' 不兼容", e);
+        }
+        if (isLambdaCompatible(method, functionalInterface)) {
+            try {
+                CallSite callSite = LambdaMetafactory.metafactory(
+                        LOOKUP, sam.getName(), MethodType.methodType(functionalInterface),
+                        samType, handle, instantiatedType(handle.type(), samType)
+                );
+                return callSite.getTarget().invoke();
+            } catch (ReflectiveOperationException | LambdaConversionException | RuntimeException | IllegalAccessError ignored) {
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return MethodHandleProxies.asInterfaceInstance(functionalInterface, adapted);
+    }
+
+    private static MethodHandle unreflect(@NotNull Method method) {
+        try {
+            final Class<?> declaringClass = method.getDeclaringClass();
+            if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers())) {
+                Method accessible = declaringClass.getDeclaredMethod(method.getName(), method.getParameterTypes());
+                if (!accessible.equals(method)) {
+                    accessible = copyOf(method);
+                }
+                accessible.setAccessible(true);
+                return LOOKUP.unreflect(accessible);
+            }
+            return LOOKUP.unreflect(method);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    @NotNull
+    private static Method copyOf(@NotNull Method method) throws NoSuchMethodException {
+        for (Method declared : method.getDeclaringClass().getDeclaredMethods()) {
+            if (declared.equals(method)) {
+                return declared;
+            }
+        }
+        throw new NoSuchMethodException(method.toString());
+    }
+
+    @NotNull
+    private static Method findSam(@NotNull Class<?> functionalInterface) {
+        AssertUtils.isTrue(functionalInterface.isInterface(), "无效的函数式接口");
+        Method sam = null;
+        for (Method method : functionalInterface.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method)) {
+                continue;
+            }
+            AssertUtils.isTrue(sam == null, "无效的函数式接口");
+            sam = method;
+        }
+        AssertUtils.notNull(sam, "无效的函数式接口");
+        return sam;
+    }
+
+    private static boolean isObjectMethod(@NotNull Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isLambdaCompatible(@NotNull Method method, @NotNull Class<?> functionalInterface) {
+        if (!Modifier.isPublic(method.getModifiers()) || !isVisible(method.getDeclaringClass()) || !isVisible(functionalInterface)) {
+            return false;
+        }
+        for (Class<?> paramType : method.getParameterTypes()) {
+            if (!isVisible(paramType)) {
+                return false;
+            }
+        }
+        return isVisible(method.getReturnType());
+    }
+
+    private static boolean isVisible(@NotNull Class<?> cls) {
+        while (cls.isArray()) {
+            cls = cls.getComponentType();
+        }
+        if (cls.isPrimitive()) {
+            return true;
+        }
+        if (!Modifier.isPublic(cls.getModifiers())) {
+            return false;
+        }
+        try {
+            return ClassUtils.forName(cls.getName(), false, Invokers.class.getClassLoader()) == cls;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @NotNull
+    private static MethodType instantiatedType(@NotNull MethodType implType, @NotNull MethodType samType) {
+        final int paramCount = samType.parameterCount();
+        final Class<?>[] paramTypes = new Class<?>[paramCount];
+        for (int i = 0; i < paramCount; i++) {
+            paramTypes[i] = instantiatedType(implType.parameterType(i), samType.parameterType(i));
+        }
+        return MethodType.methodType(instantiatedType(implType.returnType(), samType.returnType()), paramTypes);
+    }
+
+    @NotNull
+    private static Class<?> instantiatedType(@NotNull Class<?> implType, @NotNull Class<?> samType) {
+        if (samType.isPrimitive()) {
+            return samType;
+        }
+        Class<?> type = implType.isPrimitive() ? MethodType.methodType(implType).wrap().returnType() : implType;
+        return samType.isAssignableFrom(type) ? type : samType;
+    }
+
+    private static final class TypedKey {
+
+        private final Method method;
+        private final Class<?> functionalInterface;
+
+        private TypedKey(Method method, Class<?> functionalInterface) {
+            this.method = method;
+            this.functionalInterface = functionalInterface;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * method.hashCode() + functionalInterface.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TypedKey)) {
+                return false;
+            }
+            TypedKey other = (TypedKey) obj;
+            return functionalInterface == other.functionalInterface && method.equals(other.method);
+        }
+    }
+
+    private static final class MethodHandleInvoker implements Invoker {
+
+        private final MethodHandle handle;
+
+        private MethodHandleInvoker(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public Object invoke(Object target, Object... args) throws Throwable {
+            return handle.invokeExact(target, args);
+        }
+    }
+
+    private static final class ReflectionInvoker implements Invoker {
+
+        private static final MethodHandle INVOKE;
+
+        static {
+            try {
+                INVOKE = LOOKUP.findVirtual(ReflectionInvoker.class, "invoke",
+                        MethodType.methodType(Object.class, Object.class, Object[].class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Method method;
+
+        private ReflectionInvoker(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public Object invoke(Object target, Object... args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
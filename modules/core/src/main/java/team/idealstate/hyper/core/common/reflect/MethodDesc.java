@@ -0,0 +1,143 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.reflect;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * <p>MethodDesc</p>
+ *
+ * <p>已解析的方法描述，类型仅被弱引用持有，不会阻止其类加载器被回收</p>
+ *
+ * <p>创建于 2026/10/18 10:52</p>
+ *
+ * @author ketikai
+ * @version 1.0.2
+ * @since 1.0.0
+ */
+public final class MethodDesc {
+
+    private final String desc;
+    private final WeakReference<Class<?>>[] paramTypes;
+    private final WeakReference<Class<?>> returnType;
+    private final Class<?>[] resolved;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    MethodDesc(@NotNull String desc, @NotNull Class<?>[] paramTypes, int paramCount, @NotNull Class<?> returnType) {
+        this.desc = desc;
+        this.paramTypes = new WeakReference[paramCount];
+        for (int i = 0; i < paramCount; i++) {
+            this.paramTypes[i] = new WeakReference<>(paramTypes[i]);
+        }
+        this.returnType = new WeakReference<>(returnType);
+        this.resolved = null;
+    }
+
+    private MethodDesc(@NotNull MethodDesc methodDesc, @NotNull Class<?>[] resolved) {
+        this.desc = methodDesc.desc;
+        this.paramTypes = methodDesc.paramTypes;
+        this.returnType = methodDesc.returnType;
+        this.resolved = resolved;
+    }
+
+    @NotNull
+    public String getDesc() {
+        return desc;
+    }
+
+    public int getParamCount() {
+        return paramTypes.length;
+    }
+
+    @NotNull
+    public Class<?> getParamType(int index) {
+        if (resolved != null) {
+            if (index < 0 || index >= paramTypes.length) {
+                throw new ArrayIndexOutOfBoundsException(index);
+            }
+            return resolved[index];
+        }
+        return dereference(paramTypes[index]);
+    }
+
+    @NotNull
+    public Class<?>[] getParamTypes() {
+        final int length = paramTypes.length;
+        if (resolved != null) {
+            return Arrays.copyOf(resolved, length);
+        }
+        Class<?>[] types = new Class<?>[length];
+        for (int i = 0; i < length; i++) {
+            types[i] = dereference(paramTypes[i]);
+        }
+        return types;
+    }
+
+    @NotNull
+    public Class<?> getReturnType() {
+        if (resolved != null) {
+            return resolved[paramTypes.length];
+        }
+        return dereference(returnType);
+    }
+
+    /**
+     * @return 参数类型后接返回类型，任一类型已被卸载时返回 {@code null}
+     */
+    Class<?>[] resolve() {
+        final int length = paramTypes.length;
+        final Class<?>[] types = new Class<?>[length + 1];
+        for (int i = 0; i < length; i++) {
+            if ((types[i] = paramTypes[i].get()) == null) {
+                return null;
+            }
+        }
+        return (types[length] = returnType.get()) == null ? null : types;
+    }
+
+    /**
+     * @return 强引用 {@code resolved} 中类型的副本，其访问方法不会因类被卸载而失败
+     */
+    @NotNull
+    MethodDesc pin(@NotNull Class<?>[] resolved) {
+        return new MethodDesc(this, resolved);
+    }
+
+    /**
+     * @return 参数类型后接返回类型，仅由 {@link #pin(Class[])} 创建的副本持有
+     */
+    Class<?>[] resolved() {
+        return resolved;
+    }
+
+    private Class<?> dereference(WeakReference<Class<?>> reference) {
+        Class<?> type = reference.get();
+        if (type == null) {
+            throw new IllegalStateException("方法描述 '" + desc + "' 所引用的类已被卸载");
+        }
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return desc;
+    }
+}
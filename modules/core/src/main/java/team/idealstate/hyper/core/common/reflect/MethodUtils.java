@@ -21,8 +21,8 @@ import org.jetbrains.annotations.NotNull;
 import team.idealstate.hyper.core.common.language.AssertUtils;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * <p>MethodUtils</p>
@@ -30,11 +30,14 @@ import java.util.List;
  * <p>创建于 2024/2/10 14:30</p>
  *
  * @author ketikai
- * @version 1.0.2
+ * @version 1.0.6
  * @since 1.0.2
  */
 public abstract class MethodUtils {
 
+    private static final ClassLoaderCache<MethodDesc> DESC_CACHE = new ClassLoaderCache<>();
+    private static final ClassLoaderCache<MethodDesc> INITIALIZED_DESC_CACHE = new ClassLoaderCache<>();
+
     @NotNull
     public static String getDesc(@NotNull Method method) {
         AssertUtils.notNull(method, "无效的方法");
@@ -49,112 +52,53 @@ public abstract class MethodUtils {
         return stringBuilder.toString();
     }
 
-    public static Class<?>[] getParamTypes(@NotNull String methodDesc) throws IllegalArgumentException, ClassNotFoundException {
-        return getParamTypes(methodDesc, true, null);
+    @NotNull
+    public static MethodDesc parseDesc(@NotNull String methodDesc) throws IllegalArgumentException, ClassNotFoundException {
+        return parseDesc(methodDesc, true, null);
     }
 
+    /**
+     * 返回的方法描述强引用其解析出的类型；缓存中的方法描述所引用的类已被卸载时将其移除并重新解析。
+     */
     @NotNull
-    public static Class<?>[] getParamTypes(@NotNull String methodDesc, boolean initialize, ClassLoader classLoader) throws IllegalArgumentException, ClassNotFoundException {
+    public static MethodDesc parseDesc(@NotNull String methodDesc, boolean initialize, ClassLoader classLoader) throws IllegalArgumentException, ClassNotFoundException {
         AssertUtils.notBlank(methodDesc, "无效的方法描述");
-        int length = methodDesc.length();
-        START:
-        if (length >= 3) {
-            if (methodDesc.charAt(0) == '(') {
-                Integer arrayDescHeader = null;
-                Integer arrayDescFooter = null;
-                Integer refTypeHeader = null;
-                Integer lastParamTypeFooter = null;
-                Integer returnTypeHeader = null;
-                List<Class<?>> paramTypes = new ArrayList<>(8);
-                Class<?> returnType = null;
-                for (int i = 1; i < length; i++) {
-                    if (returnType != null) {
-                        break START;
-                    }
-                    char c = methodDesc.charAt(i);
-                    switch (c) {
-                        case '[':
-                            if (arrayDescHeader == null) {
-                                arrayDescHeader = i;
-                                arrayDescFooter = i;
-                            } else if (refTypeHeader != null || arrayDescFooter == null || arrayDescFooter + 1 != i) {
-                                break START;
-                            } else {
-                                arrayDescFooter = i;
-                            }
-                            break;
-                        case 'L':
-                            if (refTypeHeader == null) {
-                                if (i != 1 && arrayDescFooter == null && lastParamTypeFooter == null) {
-                                    break START;
-                                }
-                                refTypeHeader = i;
-                            }
-                            break;
-                        case ';':
-                            if (refTypeHeader == null) {
-                                break START;
-                            }
-                            if (arrayDescHeader == null) {
-                                if (returnTypeHeader == null) {
-                                    paramTypes.add(ClassUtils.forDesc(methodDesc.substring(refTypeHeader + 1, i), initialize, classLoader));
-                                } else {
-                                    returnType = ClassUtils.forDesc(methodDesc.substring(refTypeHeader + 1, i), initialize, classLoader);
-                                }
-                            } else {
-                                if (returnTypeHeader == null) {
-                                    paramTypes.add(ClassUtils.forDesc(methodDesc.substring(arrayDescHeader, i + 1), initialize, classLoader));
-                                } else {
-                                    returnType = ClassUtils.forDesc(methodDesc.substring(arrayDescHeader, i + 1), initialize, classLoader);
-                                }
-                            }
-                            lastParamTypeFooter = i;
-                            arrayDescHeader = null;
-                            arrayDescFooter = null;
-                            refTypeHeader = null;
-                            break;
-                        case ')':
-                            if (returnTypeHeader != null) {
-                                break START;
-                            }
-                            returnTypeHeader = i + 1;
-                            if (returnTypeHeader > length) {
-                                break START;
-                            }
-                            break;
-                        default:
-                            if (refTypeHeader != null) {
-                                continue;
-                            }
-                            String desc = String.valueOf(c);
-                            if (!ClassUtils.isPrimitiveDesc(desc)) {
-                                break START;
-                            }
-                            if (arrayDescHeader == null) {
-                                if (returnTypeHeader == null) {
-                                    paramTypes.add(ClassUtils.forDesc(desc));
-                                } else {
-                                    returnType = ClassUtils.forDesc(desc);
-                                }
-                            } else {
-                                if (returnTypeHeader == null) {
-                                    paramTypes.add(ClassUtils.forDesc(methodDesc.substring(arrayDescHeader, i + 1), initialize, classLoader));
-                                } else {
-                                    returnType = ClassUtils.forDesc(methodDesc.substring(arrayDescHeader, i + 1), initialize, classLoader);
-                                }
-                            }
-                            lastParamTypeFooter = i;
-                            arrayDescHeader = null;
-                            arrayDescFooter = null;
-                    }
-                }
-                if (returnType == null) {
-                    break START;
-                }
-                return paramTypes.toArray(new Class[0]);
+        final ConcurrentMap<String, MethodDesc> cache = (initialize ? INITIALIZED_DESC_CACHE : DESC_CACHE).of(classLoader);
+        MethodDesc parsed = cache.get(methodDesc);
+        Class<?>[] types = parsed == null ? null : parsed.resolve();
+        while (types == null) {
+            if (parsed != null) {
+                cache.remove(methodDesc, parsed);
             }
+            parsed = doParseDesc(methodDesc, initialize, classLoader);
+            cache.put(methodDesc, parsed);
+            types = parsed.resolve();
         }
-        throw new IllegalArgumentException("无效的方法描述 '" + methodDesc + "'");
+        return parsed.pin(types);
+    }
+
+    /**
+     * @return 参数类型后接返回类型
+     */
+    @NotNull
+    static Class<?>[] resolveDesc(@NotNull String methodDesc, boolean initialize, ClassLoader classLoader) throws IllegalArgumentException, ClassNotFoundException {
+        return parseDesc(methodDesc, initialize, classLoader).resolved();
+    }
+
+    public static void invalidateDescCache(ClassLoader classLoader) {
+        DESC_CACHE.invalidate(classLoader);
+        INITIALIZED_DESC_CACHE.invalidate(classLoader);
+    }
+
+    @NotNull
+    public static Class<?>[] getParamTypes(@NotNull String methodDesc) throws IllegalArgumentException, ClassNotFoundException {
+        return getParamTypes(methodDesc, true, null);
+    }
+
+    @NotNull
+    public static Class<?>[] getParamTypes(@NotNull String methodDesc, boolean initialize, ClassLoader classLoader) throws IllegalArgumentException, ClassNotFoundException {
+        final Class<?>[] types = resolveDesc(methodDesc, initialize, classLoader);
+        return Arrays.copyOf(types, types.length - 1);
     }
 
     @NotNull
@@ -164,105 +108,60 @@ public abstract class MethodUtils {
 
     @NotNull
     public static Class<?> getReturnType(@NotNull String methodDesc, boolean initialize, ClassLoader classLoader) throws IllegalArgumentException, ClassNotFoundException {
-        AssertUtils.notBlank(methodDesc, "无效的方法描述");
-        int length = methodDesc.length();
-        START:
-        if (length >= 3) {
-            if (methodDesc.charAt(0) == '(') {
-                Integer arrayDescHeader = null;
-                Integer arrayDescFooter = null;
-                Integer refTypeHeader = null;
-                Integer lastParamTypeFooter = null;
-                Integer returnTypeHeader = null;
-                List<Class<?>> paramTypes = new ArrayList<>(8);
-                Class<?> returnType = null;
-                for (int i = 1; i < length; i++) {
-                    if (returnType != null) {
-                        break START;
-                    }
-                    char c = methodDesc.charAt(i);
-                    switch (c) {
-                        case '[':
-                            if (arrayDescHeader == null) {
-                                arrayDescHeader = i;
-                                arrayDescFooter = i;
-                            } else if (refTypeHeader != null || arrayDescFooter == null || arrayDescFooter + 1 != i) {
-                                break START;
-                            } else {
-                                arrayDescFooter = i;
-                            }
-                            break;
-                        case 'L':
-                            if (refTypeHeader == null) {
-                                if (i != 1 && arrayDescFooter == null && lastParamTypeFooter == null) {
-                                    break START;
-                                }
-                                refTypeHeader = i;
-                            }
-                            break;
-                        case ';':
-                            if (refTypeHeader == null) {
-                                break START;
-                            }
-                            if (arrayDescHeader == null) {
-                                if (returnTypeHeader == null) {
-                                    paramTypes.add(ClassUtils.forDesc(methodDesc.substring(refTypeHeader + 1, i), initialize, classLoader));
-                                } else {
-                                    returnType = ClassUtils.forDesc(methodDesc.substring(refTypeHeader + 1, i), initialize, classLoader);
-                                }
-                            } else {
-                                if (returnTypeHeader == null) {
-                                    paramTypes.add(ClassUtils.forDesc(methodDesc.substring(arrayDescHeader, i + 1), initialize, classLoader));
-                                } else {
-                                    returnType = ClassUtils.forDesc(methodDesc.substring(arrayDescHeader, i + 1), initialize, classLoader);
-                                }
-                            }
-                            lastParamTypeFooter = i;
-                            arrayDescHeader = null;
-                            arrayDescFooter = null;
-                            refTypeHeader = null;
-                            break;
-                        case ')':
-                            if (returnTypeHeader != null) {
-                                break START;
-                            }
-                            returnTypeHeader = i + 1;
-                            if (returnTypeHeader > length) {
-                                break START;
-                            }
-                            break;
-                        default:
-                            if (refTypeHeader != null) {
-                                continue;
-                            }
-                            String desc = String.valueOf(c);
-                            if (!ClassUtils.isPrimitiveDesc(desc)) {
-                                break START;
-                            }
-                            if (arrayDescHeader == null) {
-                                if (returnTypeHeader == null) {
-                                    paramTypes.add(ClassUtils.forDesc(desc, initialize, classLoader));
-                                } else {
-                                    returnType = ClassUtils.forDesc(desc, initialize, classLoader);
-                                }
-                            } else {
-                                if (returnTypeHeader == null) {
-                                    paramTypes.add(ClassUtils.forDesc(methodDesc.substring(arrayDescHeader, i + 1), initialize, classLoader));
-                                } else {
-                                    returnType = ClassUtils.forDesc(methodDesc.substring(arrayDescHeader, i + 1), initialize, classLoader);
-                                }
-                            }
-                            lastParamTypeFooter = i;
-                            arrayDescHeader = null;
-                            arrayDescFooter = null;
-                    }
-                }
-                if (returnType == null) {
-                    break START;
-                }
-                return returnType;
+        final Class<?>[] types = resolveDesc(methodDesc, initialize, classLoader);
+        return types[types.length - 1];
+    }
+
+    @NotNull
+    private static MethodDesc doParseDesc(@NotNull String methodDesc, boolean initialize, ClassLoader classLoader) throws IllegalArgumentException, ClassNotFoundException {
+        final int length = methodDesc.length();
+        AssertUtils.isTrue(length >= 3 && methodDesc.charAt(0) == '(', "无效的方法描述 '%s'", methodDesc);
+        Class<?>[] paramTypes = new Class<?>[8];
+        int paramCount = 0;
+        int index = 1;
+        int end;
+        while (index < length && methodDesc.charAt(index) != ')') {
+            end = endOfTypeDesc(methodDesc, index, length);
+            AssertUtils.isTrue(end >= 0, "无效的方法描述 '%s'", methodDesc);
+            if (paramCount == paramTypes.length) {
+                paramTypes = Arrays.copyOf(paramTypes, paramCount << 1);
             }
+            paramTypes[paramCount] = resolveTypeDesc(methodDesc, index, end, initialize, classLoader);
+            paramCount = paramCount + 1;
+            index = end;
+        }
+        index = index + 1;
+        end = endOfTypeDesc(methodDesc, index, length);
+        AssertUtils.isTrue(end == length, "无效的方法描述 '%s'", methodDesc);
+        Class<?> returnType = resolveTypeDesc(methodDesc, index, end, initialize, classLoader);
+        return new MethodDesc(methodDesc, paramTypes, paramCount, returnType);
+    }
+
+    private static int endOfTypeDesc(@NotNull String methodDesc, int start, int length) {
+        int index = start;
+        while (index < length && methodDesc.charAt(index) == '[') {
+            index = index + 1;
+        }
+        if (index >= length) {
+            return -1;
+        }
+        char c = methodDesc.charAt(index);
+        if (c == 'L') {
+            int footer = methodDesc.indexOf(';', index + 1);
+            return footer <= index + 1 ? -1 : footer + 1;
+        }
+        return ClassUtils.isPrimitiveDesc(c) ? index + 1 : -1;
+    }
+
+    @NotNull
+    private static Class<?> resolveTypeDesc(@NotNull String methodDesc, int start, int end, boolean initialize, ClassLoader classLoader) throws ClassNotFoundException {
+        char c = methodDesc.charAt(start);
+        if (c == '[') {
+            return ClassUtils.forName(methodDesc.substring(start, end), initialize, classLoader);
+        }
+        if (c == 'L') {
+            return ClassUtils.forName(methodDesc.substring(start + 1, end - 1), initialize, classLoader);
         }
-        throw new IllegalArgumentException("无效的方法描述 '" + methodDesc + "'");
+        return ClassUtils.forDesc(c);
     }
 }
@@ -20,14 +20,10 @@ package team.idealstate.hyper.core.common.resource;
 import org.jetbrains.annotations.NotNull;
 import team.idealstate.hyper.core.common.language.AssertUtils;
 
-import java.io.File;
 import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.Attributes;
-import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
 /**
@@ -36,12 +32,12 @@ import java.util.jar.Manifest;
  * <p>创建于 2024/2/9 16:22</p>
  *
  * @author ketikai
- * @version 1.0.0
+ * @version 1.0.1
  * @since 1.0.0
  */
 public abstract class AssetUtils {
 
-    private static final Map<Class<?>, String> NAME_CACHE = new HashMap<>(16, 0.6F);
+    private static final Map<Class<?>, String> NAME_CACHE = new ConcurrentHashMap<>(16, 0.6F);
 
     @NotNull
     public static String asset(@NotNull Class<?> sourceClass, @NotNull String assetPath) {
@@ -53,14 +49,8 @@ public abstract class AssetUtils {
     private static String getName(Class<?> sourceClass) {
         String name = NAME_CACHE.get(sourceClass);
         if (name == null) {
-            URI uri;
-            try {
-                uri = sourceClass.getProtectionDomain().getCodeSource().getLocation().toURI();
-            } catch (URISyntaxException e) {
-                throw new RuntimeException(e);
-            }
-            try (JarFile jarFile = new JarFile(new File(uri))) {
-                Manifest manifest = jarFile.getManifest();
+            try (JarHandle handle = JarHandle.acquire(sourceClass)) {
+                Manifest manifest = handle.getManifest();
                 if (manifest != null) {
                     Attributes mainAttributes = manifest.getMainAttributes();
                     if (mainAttributes != null) {
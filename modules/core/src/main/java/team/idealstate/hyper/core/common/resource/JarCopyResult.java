@@ -0,0 +1,78 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.resource;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+
+/**
+ * <p>JarCopyResult</p>
+ *
+ * <p>一次资源复制中被跳过、更新与新建的文件数量</p>
+ *
+ * <p>创建于 2026/10/18 20:30</p>
+ *
+ * @author ketikai
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class JarCopyResult {
+
+    private final File file;
+    private final int skippedCount;
+    private final int updatedCount;
+    private final int createdCount;
+
+    JarCopyResult(@NotNull File file, int skippedCount, int updatedCount, int createdCount) {
+        this.file = file;
+        this.skippedCount = skippedCount;
+        this.updatedCount = updatedCount;
+        this.createdCount = createdCount;
+    }
+
+    /**
+     * @return 资源对应的目标文件或目录
+     */
+    @NotNull
+    public File getFile() {
+        return file;
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    @Override
+    public String toString() {
+        return "JarCopyResult{" +
+                "file=" + file +
+                ", skippedCount=" + skippedCount +
+                ", updatedCount=" + updatedCount +
+                ", createdCount=" + createdCount +
+                '}';
+    }
+}
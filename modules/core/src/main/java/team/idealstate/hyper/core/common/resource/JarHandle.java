@@ -0,0 +1,297 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * <p>JarHandle</p>
+ *
+ * <p>按文件共享的 {@link JarFile} 句柄，使用引用计数管理，空闲超时后自动关闭。
+ * 每次获取都会得到独立的句柄，重复关闭同一句柄只会释放一次引用</p>
+ *
+ * <p>首次按前缀列举条目时会建立按名称排序的条目索引，之后的前缀列举为二分查找加区间扫描。
+ * 文件的修改时间或大小变化时，后续获取会打开新的句柄，旧句柄在释放后关闭。</p>
+ *
+ * <p>创建于 2026/10/18 20:50</p>
+ *
+ * @author ketikai
+ * @version 1.0.2
+ * @since 1.0.0
+ */
+final class JarHandle implements Closeable {
+
+    static final long IDLE_TIMEOUT_MILLIS = 60 * 1000L;
+    private static final Map<File, SharedJar> HANDLES = new HashMap<>();
+    private static final ClassValue<File> LOCATIONS = new ClassValue<File>() {
+        @Override
+        protected File computeValue(Class<?> type) {
+            try {
+                return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getAbsoluteFile();
+            } catch (URISyntaxException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    };
+    private static ScheduledExecutorService sweeper = null;
+
+    private final SharedJar shared;
+    private boolean closed = false;
+
+    private JarHandle(SharedJar shared) {
+        this.shared = shared;
+    }
+
+    @NotNull
+    static File location(@NotNull Class<?> sourceClass) {
+        return LOCATIONS.get(sourceClass);
+    }
+
+    /**
+     * 获取 {@code sourceClass} 所在工件的句柄，使用完毕后必须调用 {@link #close()} 释放。
+     */
+    @NotNull
+    static JarHandle acquire(@NotNull Class<?> sourceClass) throws IOException {
+        return acquire(location(sourceClass));
+    }
+
+    @NotNull
+    static JarHandle acquire(@NotNull File file) throws IOException {
+        final long lastModified = file.lastModified();
+        final long length = file.length();
+        synchronized (HANDLES) {
+            SharedJar shared = HANDLES.get(file);
+            if (shared != null && (shared.lastModified != lastModified || shared.length != length)) {
+                HANDLES.remove(file);
+                shared.stale = true;
+                if (shared.references == 0) {
+                    shared.closeQuietly();
+                }
+                shared = null;
+            }
+            if (shared == null) {
+                shared = new SharedJar(file, lastModified, length);
+                HANDLES.put(file, shared);
+                startSweeper();
+            }
+            shared.references++;
+            return new JarHandle(shared);
+        }
+    }
+
+    /**
+     * 立即关闭所有未被使用的句柄，不再有句柄时同时停止清理线程。
+     */
+    static void closeIdle() {
+        sweep(0);
+    }
+
+    @NotNull
+    File getFile() {
+        return shared.file;
+    }
+
+    @NotNull
+    JarFile getJarFile() {
+        return shared.jarFile;
+    }
+
+    @Nullable
+    JarEntry getJarEntry(@NotNull String name) {
+        return shared.jarFile.getJarEntry(name);
+    }
+
+    @Nullable
+    Manifest getManifest() throws IOException {
+        return shared.jarFile.getManifest();
+    }
+
+    @NotNull
+    InputStream getInputStream(@NotNull JarEntry jarEntry) throws IOException {
+        return shared.jarFile.getInputStream(jarEntry);
+    }
+
+    /**
+     * @return 名称以 {@code prefix} 开头的全部条目，按名称排序
+     */
+    @NotNull
+    List<JarEntry> list(@NotNull String prefix) {
+        final JarEntry[] index = shared.index();
+        int low = 0;
+        int high = index.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (index[middle].getName().compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int end = low;
+        while (end < index.length && index[end].getName().startsWith(prefix)) {
+            end++;
+        }
+        return low == end ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(index).subList(low, end));
+    }
+
+    @Override
+    public void close() {
+        synchronized (HANDLES) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            shared.release();
+        }
+    }
+
+    /**
+     * 存在共享句柄时保持一个清理任务，每次执行后重新调度，句柄全部关闭后停止清理线程，
+     * 以免常驻线程阻止当前类加载器被卸载。
+     */
+    private static void startSweeper() {
+        if (sweeper != null) {
+            return;
+        }
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "hyper-jar-handle-sweeper");
+            thread.setDaemon(true);
+            thread.setContextClassLoader(null);
+            return thread;
+        });
+        sweeper = executor;
+        scheduleSweep(executor);
+    }
+
+    private static void scheduleSweep(@NotNull ScheduledExecutorService executor) {
+        executor.schedule(() -> {
+            synchronized (HANDLES) {
+                if (sweeper != executor) {
+                    return;
+                }
+                sweep(IDLE_TIMEOUT_MILLIS);
+                if (sweeper == executor) {
+                    scheduleSweep(executor);
+                }
+            }
+        }, IDLE_TIMEOUT_MILLIS / 2, TimeUnit.MILLISECONDS);
+    }
+
+    private static void stopSweeper() {
+        if (sweeper == null) {
+            return;
+        }
+        sweeper.shutdownNow();
+        sweeper = null;
+    }
+
+    private static void sweep(long idleTimeoutMillis) {
+        final long now = System.currentTimeMillis();
+        synchronized (HANDLES) {
+            final Iterator<SharedJar> iterator = HANDLES.values().iterator();
+            while (iterator.hasNext()) {
+                final SharedJar handle = iterator.next();
+                if (handle.references == 0 && now - handle.releasedAt >= idleTimeoutMillis) {
+                    iterator.remove();
+                    handle.closeQuietly();
+                }
+            }
+            if (HANDLES.isEmpty()) {
+                stopSweeper();
+            }
+        }
+    }
+
+    private static final class SharedJar {
+
+        private final File file;
+        private final JarFile jarFile;
+        private final long lastModified;
+        private final long length;
+        private volatile JarEntry[] index = null;
+        private int references = 0;
+        private long releasedAt = 0;
+        private boolean stale = false;
+        private boolean closed = false;
+
+        private SharedJar(File file, long lastModified, long length) throws IOException {
+            this.file = file;
+            this.jarFile = new JarFile(file);
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        @NotNull
+        private JarEntry[] index() {
+            JarEntry[] index = this.index;
+            if (index == null) {
+                final List<JarEntry> entries = new ArrayList<>();
+                final Enumeration<JarEntry> enumeration = jarFile.entries();
+                while (enumeration.hasMoreElements()) {
+                    entries.add(enumeration.nextElement());
+                }
+                index = entries.toArray(new JarEntry[0]);
+                Arrays.sort(index, Comparator.comparing(JarEntry::getName));
+                this.index = index;
+            }
+            return index;
+        }
+
+        private void release() {
+            if (--references == 0) {
+                releasedAt = System.currentTimeMillis();
+                if (stale) {
+                    closeQuietly();
+                }
+            }
+        }
+
+        private void closeQuietly() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                jarFile.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
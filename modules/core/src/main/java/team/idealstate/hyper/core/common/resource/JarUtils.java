@@ -21,9 +21,22 @@ import org.jetbrains.annotations.NotNull;
 import team.idealstate.hyper.core.common.language.AssertUtils;
 
 import java.io.*;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.util.Enumeration;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -33,11 +46,18 @@ import java.util.jar.JarFile;
  * <p>创建于 2024/2/7 3:54</p>
  *
  * @author ketikai
- * @version 1.0.2
+ * @version 1.0.7
  * @since 1.0.2
  */
 public abstract class JarUtils {
 
+    public static final String MANIFEST_NAME = ".hyper-jar-manifest";
+    private static final int MODE_SKIP = 0;
+    private static final int MODE_REPLACE = 1;
+    private static final int MODE_INCREMENTAL = 2;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
     @NotNull
     public static File copy(@NotNull Class<?> sourceClass, @NotNull String resourcePath, @NotNull File destinationDirectory) {
         return copy(sourceClass, resourcePath, destinationDirectory, false);
@@ -45,69 +65,245 @@ public abstract class JarUtils {
 
     @NotNull
     public static File copy(@NotNull Class<?> sourceClass, @NotNull String resourcePath, @NotNull File destinationDirectory, boolean replaceExisting) {
+        return copy(sourceClass, resourcePath, destinationDirectory, replaceExisting, 1);
+    }
+
+    /**
+     * 复制目录资源时，匹配的条目会分配到最多 {@code parallelism} 个线程中并行写出。
+     */
+    @NotNull
+    public static File copy(@NotNull Class<?> sourceClass, @NotNull String resourcePath, @NotNull File destinationDirectory, boolean replaceExisting, int parallelism) {
+        return copy(sourceClass, resourcePath, destinationDirectory, replaceExisting ? MODE_REPLACE : MODE_SKIP, parallelism).getFile();
+    }
+
+    /**
+     * 立即关闭当前未被使用的共享 jar 句柄，未使用的句柄在空闲超时后也会自动关闭。
+     * <p>
+     * 共享句柄全部关闭后后台清理线程随之停止；在卸载加载了本类的类加载器之前，
+     * 应在释放所有资源后调用此方法，以关闭句柄并停止清理线程。
+     */
+    public static void closeIdleHandles() {
+        JarHandle.closeIdle();
+    }
+
+    @NotNull
+    public static JarCopyResult copyIncremental(@NotNull Class<?> sourceClass, @NotNull String resourcePath, @NotNull File destinationDirectory) {
+        return copyIncremental(sourceClass, resourcePath, destinationDirectory, 1);
+    }
+
+    /**
+     * 只重写发生变化的条目。每个条目在中央目录中的 CRC-32 与大小会与目标目录下清单文件中记录的值比较，
+     * 两者一致且磁盘上的文件大小未变化时跳过，复制完成后更新清单。
+     */
+    @NotNull
+    public static JarCopyResult copyIncremental(@NotNull Class<?> sourceClass, @NotNull String resourcePath, @NotNull File destinationDirectory, int parallelism) {
+        return copy(sourceClass, resourcePath, destinationDirectory, MODE_INCREMENTAL, parallelism);
+    }
+
+    @NotNull
+    private static JarCopyResult copy(@NotNull Class<?> sourceClass, @NotNull String resourcePath, @NotNull File destinationDirectory, int mode, int parallelism) {
         AssertUtils.notNull(sourceClass, "来源类型不允许为 null");
         AssertUtils.notBlank(resourcePath, "资源路径不允许为纯空白字符串或 null");
         AssertUtils.notNull(destinationDirectory, "目标目录不允许为 null");
-        URI uri;
-        try {
-            uri = sourceClass.getProtectionDomain().getCodeSource().getLocation().toURI();
-        } catch (URISyntaxException e) {
-            throw new RuntimeException(e);
-        }
-        try (JarFile jarFile = new JarFile(new File(uri))) {
+        AssertUtils.isTrue(parallelism > 0, "并行度必须大于 0");
+        try (JarHandle handle = JarHandle.acquire(sourceClass)) {
             resourcePath = resourcePath.replace('\\', '/');
             if (resourcePath.charAt(0) == '/') {
                 resourcePath = resourcePath.substring(1);
             }
-            JarEntry jarEntry = jarFile.getJarEntry(resourcePath);
+            final JarEntry jarEntry = handle.getJarEntry(resourcePath);
             if (jarEntry == null) {
-                throw new FileNotFoundException(uri + "!" + resourcePath);
+                throw new FileNotFoundException(handle.getFile() + "!" + resourcePath);
             }
-            final byte[] buf = new byte[512];
-            final File file = copyJarEntry(jarFile, jarEntry, resourcePath, destinationDirectory, buf, replaceExisting);
+            final File file = destinationFile(jarEntry, resourcePath, destinationDirectory);
+            final List<JarEntry> jarEntries = new ArrayList<>();
             if (!jarEntry.isDirectory()) {
-                return file;
+                jarEntries.add(jarEntry);
+            } else {
+                for (JarEntry entry : handle.list(jarEntry.getName())) {
+                    if (!entry.isDirectory()) {
+                        jarEntries.add(entry);
+                    }
+                }
             }
-            final String prefix = jarEntry.getName();
-            final Enumeration<JarEntry> entries = jarFile.entries();
-            while (entries.hasMoreElements()) {
-                jarEntry = entries.nextElement();
-                if (!jarEntry.getName().startsWith(prefix)) {
+            final Map<String, long[]> manifest = mode == MODE_INCREMENTAL ? readManifest(destinationDirectory) : null;
+            final List<JarEntry> changed = new ArrayList<>(jarEntries.size());
+            int skipped = 0;
+            int updated = 0;
+            int created = 0;
+            for (JarEntry entry : jarEntries) {
+                final File destination = destinationFile(entry, resourcePath, destinationDirectory);
+                final boolean exists = destination.isFile();
+                if (exists && (mode == MODE_SKIP || (manifest != null && isUnchanged(manifest, entry, destination, destinationDirectory)))) {
+                    skipped++;
                     continue;
                 }
-                copyJarEntry(jarFile, jarEntry, resourcePath, destinationDirectory, buf, replaceExisting);
+                if (exists) {
+                    updated++;
+                } else {
+                    created++;
+                }
+                changed.add(entry);
             }
-            return file;
+            copyJarEntries(handle.getJarFile(), changed, resourcePath, destinationDirectory, parallelism);
+            if (manifest != null && !changed.isEmpty()) {
+                for (JarEntry entry : changed) {
+                    manifest.put(manifestKey(destinationFile(entry, resourcePath, destinationDirectory), destinationDirectory),
+                            new long[]{entry.getCrc(), entry.getSize()});
+                }
+                writeManifest(destinationDirectory, manifest);
+            }
+            return new JarCopyResult(file, skipped, updated, created);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private static File copyJarEntry(JarFile jarFile, JarEntry jarEntry, String resourcePath, File destinationDirectory, byte[] buf, boolean replaceExisting) throws IOException {
-        String jarEntryName = jarEntry.getName();
+    private static boolean isUnchanged(Map<String, long[]> manifest, JarEntry jarEntry, File file, File destinationDirectory) {
+        final long crc = jarEntry.getCrc();
+        final long size = jarEntry.getSize();
+        if (crc < 0 || size < 0) {
+            return false;
+        }
+        final long[] recorded = manifest.get(manifestKey(file, destinationDirectory));
+        return recorded != null && recorded[0] == crc && recorded[1] == size && file.length() == size;
+    }
+
+    private static String manifestKey(File file, File destinationDirectory) {
+        return destinationDirectory.toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/');
+    }
+
+    private static Map<String, long[]> readManifest(File destinationDirectory) throws IOException {
+        final Map<String, long[]> manifest = new HashMap<>();
+        final Path path = new File(destinationDirectory, MANIFEST_NAME).toPath();
+        if (!Files.isRegularFile(path)) {
+            return manifest;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int first = line.indexOf('\t');
+                final int second = first < 0 ? -1 : line.indexOf('\t', first + 1);
+                if (second < 0) {
+                    continue;
+                }
+                try {
+                    manifest.put(line.substring(second + 1), new long[]{
+                            Long.parseLong(line.substring(0, first), 16),
+                            Long.parseLong(line.substring(first + 1, second))
+                    });
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+        return manifest;
+    }
+
+    private static void writeManifest(File destinationDirectory, Map<String, long[]> manifest) throws IOException {
+        final Path path = new File(destinationDirectory, MANIFEST_NAME).toPath();
+        Files.createDirectories(path.getParent());
+        final Path temporary = Files.createTempFile(path.getParent(), MANIFEST_NAME, ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, long[]> entry : manifest.entrySet()) {
+                    writer.write(Long.toHexString(entry.getValue()[0]));
+                    writer.write('\t');
+                    writer.write(Long.toString(entry.getValue()[1]));
+                    writer.write('\t');
+                    writer.write(entry.getKey());
+                    writer.newLine();
+                }
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void copyJarEntries(JarFile jarFile, List<JarEntry> jarEntries, String resourcePath, File destinationDirectory, int parallelism) throws IOException {
+        if (parallelism == 1 || jarEntries.size() <= 1) {
+            for (JarEntry jarEntry : jarEntries) {
+                copyJarEntry(jarFile, jarEntry, destinationFile(jarEntry, resourcePath, destinationDirectory));
+            }
+            return;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, jarEntries.size()), runnable -> {
+            final Thread thread = new Thread(runnable, "hyper-jar-copy");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Future<File>> futures = new ArrayList<>(jarEntries.size());
+            for (JarEntry jarEntry : jarEntries) {
+                futures.add(executor.submit(() -> copyJarEntry(jarFile, jarEntry, destinationFile(jarEntry, resourcePath, destinationDirectory))));
+            }
+            for (Future<File> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("复制资源时被中断");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            shutdownAndAwait(executor);
+        }
+    }
+
+    /**
+     * 取消尚未完成的复制任务，并等待正在执行的任务结束，保证返回或抛出异常后不再有线程写入目标目录。
+     */
+    private static void shutdownAndAwait(ExecutorService executor) {
+        executor.shutdownNow();
+        boolean interrupted = Thread.interrupted();
+        while (true) {
+            try {
+                if (executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static File destinationFile(JarEntry jarEntry, String resourcePath, File destinationDirectory) throws IOException {
+        final String jarEntryName = jarEntry.getName();
         final File file;
-        final boolean isDirectory = jarEntry.isDirectory();
-        if (!isDirectory && jarEntryName.equals(resourcePath)) {
-            file = new File(destinationDirectory, jarEntryName.substring(jarEntryName.lastIndexOf('/')));
+        if (!jarEntry.isDirectory() && jarEntryName.equals(resourcePath)) {
+            file = new File(destinationDirectory, jarEntryName.substring(jarEntryName.lastIndexOf('/') + 1));
         } else {
             file = new File(destinationDirectory, jarEntryName.substring(resourcePath.length()));
         }
-        if (!isDirectory && file.exists() && !replaceExisting) {
-            return file;
-        }
-        if (isDirectory) {
-            return file;
+        if (!file.toPath().normalize().startsWith(destinationDirectory.toPath().normalize())) {
+            throw new IOException("资源条目 '" + jarEntryName + "' 超出了目标目录");
         }
-        //noinspection ResultOfMethodCallIgnored
-        file.getParentFile().mkdirs();
-        try (FileOutputStream fileOutputStream = new FileOutputStream(file)) {
-            try (InputStream inputStream = jarFile.getInputStream(jarEntry)) {
-                int len;
-                while ((len = inputStream.read(buf)) != -1) {
-                    fileOutputStream.write(buf, 0, len);
+        return file;
+    }
+
+    private static File copyJarEntry(JarFile jarFile, JarEntry jarEntry, File file) throws IOException {
+        final Path path = file.toPath();
+        Files.createDirectories(path.getParent());
+        final byte[] buf = BUFFER.get();
+        try (InputStream inputStream = jarFile.getInputStream(jarEntry);
+             FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int len;
+            while ((len = inputStream.read(buf)) != -1) {
+                final ByteBuffer buffer = ByteBuffer.wrap(buf, 0, len);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
                 }
             }
-            fileOutputStream.flush();
         }
         return file;
     }
@@ -0,0 +1,299 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.string;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * <p>MultiStringMatcher</p>
+ *
+ * <p>基于 Aho–Corasick 自动机的多模式串匹配器，单次遍历即可找出所有模式串的出现位置，
+ * 转移、失配链接和输出链接均保存在基本类型数组中，编译后不可变，可在多个线程中并发使用</p>
+ *
+ * <p>重复的模式串只报告其首次出现的下标</p>
+ *
+ * <p>创建于 2026/10/18 14:50</p>
+ *
+ * @author ketikai
+ * @version 1.0.1
+ * @since 1.0.0
+ */
+public final class MultiStringMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final String[] patterns;
+    private final boolean ignoreCase;
+    private final int[] rootTransitions;
+    private final int[] edgeStarts;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] failures;
+    private final int[] outputs;
+    private final int[] outputLinks;
+    private final int[] depths;
+
+    private MultiStringMatcher(String[] patterns, boolean ignoreCase) {
+        this.patterns = patterns;
+        this.ignoreCase = ignoreCase;
+        final int patternCount = patterns.length;
+        final String[] folded = new String[patternCount];
+        final Integer[] order = new Integer[patternCount];
+        int totalLength = 0;
+        for (int i = 0; i < patternCount; i++) {
+            folded[i] = ignoreCase ? fold(patterns[i]) : patterns[i];
+            order[i] = i;
+            totalLength = totalLength + folded[i].length();
+        }
+        Arrays.sort(order, (left, right) -> {
+            int compared = folded[left].compareTo(folded[right]);
+            return compared != 0 ? compared : Integer.compare(left, right);
+        });
+
+        final int capacity = totalLength + 1;
+        final int[] parents = new int[capacity];
+        final char[] chars = new char[capacity];
+        final int[] lastChildren = new int[capacity];
+        final int[] outputs = new int[capacity];
+        final int[] depths = new int[capacity];
+        Arrays.fill(lastChildren, NONE);
+        Arrays.fill(outputs, NONE);
+        parents[ROOT] = NONE;
+        int stateCount = 1;
+        for (Integer patternIndex : order) {
+            final String pattern = folded[patternIndex];
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                final char c = pattern.charAt(i);
+                final int child = lastChildren[state];
+                if (child != NONE && chars[child] == c) {
+                    state = child;
+                    continue;
+                }
+                final int created = stateCount;
+                stateCount = stateCount + 1;
+                parents[created] = state;
+                chars[created] = c;
+                depths[created] = depths[state] + 1;
+                lastChildren[state] = created;
+                state = created;
+            }
+            if (outputs[state] == NONE) {
+                outputs[state] = patternIndex;
+            }
+        }
+
+        this.edgeStarts = new int[stateCount + 1];
+        for (int state = 1; state < stateCount; state++) {
+            edgeStarts[parents[state] + 1] = edgeStarts[parents[state] + 1] + 1;
+        }
+        for (int state = 0; state < stateCount; state++) {
+            edgeStarts[state + 1] = edgeStarts[state + 1] + edgeStarts[state];
+        }
+        final int edgeCount = stateCount - 1;
+        this.edgeChars = new char[edgeCount];
+        this.edgeTargets = new int[edgeCount];
+        final int[] cursors = Arrays.copyOf(edgeStarts, stateCount);
+        int maxRootChar = -1;
+        for (int state = 1; state < stateCount; state++) {
+            final int parent = parents[state];
+            final int edge = cursors[parent];
+            cursors[parent] = edge + 1;
+            edgeChars[edge] = chars[state];
+            edgeTargets[edge] = state;
+            if (parent == ROOT) {
+                maxRootChar = Math.max(maxRootChar, chars[state]);
+            }
+        }
+        this.rootTransitions = new int[maxRootChar + 1];
+        Arrays.fill(rootTransitions, NONE);
+        for (int edge = edgeStarts[ROOT]; edge < edgeStarts[ROOT + 1]; edge++) {
+            rootTransitions[edgeChars[edge]] = edgeTargets[edge];
+        }
+
+        this.failures = new int[stateCount];
+        this.outputLinks = new int[stateCount];
+        this.outputs = Arrays.copyOf(outputs, stateCount);
+        this.depths = Arrays.copyOf(depths, stateCount);
+        outputLinks[ROOT] = NONE;
+        final int[] queue = new int[stateCount];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = ROOT;
+        while (head < tail) {
+            final int state = queue[head++];
+            for (int edge = edgeStarts[state]; edge < edgeStarts[state + 1]; edge++) {
+                final int target = edgeTargets[edge];
+                queue[tail++] = target;
+                if (state == ROOT) {
+                    failures[target] = ROOT;
+                    outputLinks[target] = NONE;
+                    continue;
+                }
+                final char c = edgeChars[edge];
+                int failure = failures[state];
+                int next;
+                while ((next = transition(failure, c)) == NONE && failure != ROOT) {
+                    failure = failures[failure];
+                }
+                failure = next == NONE ? ROOT : next;
+                failures[target] = failure;
+                outputLinks[target] = this.outputs[failure] != NONE ? failure : outputLinks[failure];
+            }
+        }
+    }
+
+    @NotNull
+    public static MultiStringMatcher compile(@NotNull Collection<? extends CharSequence> patterns) {
+        return compile(patterns, false);
+    }
+
+    @NotNull
+    public static MultiStringMatcher compile(@NotNull Collection<? extends CharSequence> patterns, boolean ignoreCase) {
+        AssertUtils.notEmpty(patterns, "无效的模式串集合");
+        final String[] strings = new String[patterns.size()];
+        int index = 0;
+        for (CharSequence pattern : patterns) {
+            AssertUtils.isTrue(StringUtils.isNotEmpty(pattern), "无效的模式串");
+            strings[index] = pattern.toString();
+            index = index + 1;
+        }
+        return new MultiStringMatcher(strings, ignoreCase);
+    }
+
+    public int getPatternCount() {
+        return patterns.length;
+    }
+
+    @NotNull
+    public String getPattern(int index) {
+        return patterns[index];
+    }
+
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    public boolean containsAny(CharSequence text) {
+        return text != null && !scan(text, 0, text.length(), (patternIndex, start, end) -> false);
+    }
+
+    public int count(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        final int[] count = {0};
+        scan(text, 0, text.length(), (patternIndex, start, end) -> {
+            count[0] = count[0] + 1;
+            return true;
+        });
+        return count[0];
+    }
+
+    @NotNull
+    public int[] countEach(CharSequence text) {
+        final int[] counts = new int[patterns.length];
+        if (text != null) {
+            scan(text, 0, text.length(), (patternIndex, start, end) -> {
+                counts[patternIndex] = counts[patternIndex] + 1;
+                return true;
+            });
+        }
+        return counts;
+    }
+
+    public boolean scan(CharSequence text, @NotNull MatchHandler handler) {
+        return text == null || scan(text, 0, text.length(), handler);
+    }
+
+    public boolean scan(CharSequence text, int from, int to, @NotNull MatchHandler handler) {
+        AssertUtils.notNull(handler, "无效的匹配处理器");
+        if (text == null) {
+            return true;
+        }
+        StringUtils.checkRegion(text, from, to);
+        final boolean ignoreCase = this.ignoreCase;
+        int state = ROOT;
+        for (int i = from; i < to; i++) {
+            final char c = ignoreCase ? fold(text.charAt(i)) : text.charAt(i);
+            int next;
+            while ((next = transition(state, c)) == NONE && state != ROOT) {
+                state = failures[state];
+            }
+            state = next == NONE ? ROOT : next;
+            int output = outputs[state] != NONE ? state : outputLinks[state];
+            while (output != NONE) {
+                if (!handler.onMatch(outputs[output], i + 1 - depths[output], i + 1)) {
+                    return false;
+                }
+                output = outputLinks[output];
+            }
+        }
+        return true;
+    }
+
+    private int transition(int state, char c) {
+        if (state == ROOT) {
+            return c < rootTransitions.length ? rootTransitions[c] : NONE;
+        }
+        int low = edgeStarts[state];
+        int high = edgeStarts[state + 1] - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final char edgeChar = edgeChars[middle];
+            if (edgeChar < c) {
+                low = middle + 1;
+            } else if (edgeChar > c) {
+                high = middle - 1;
+            } else {
+                return edgeTargets[middle];
+            }
+        }
+        return NONE;
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    @NotNull
+    private static String fold(@NotNull String string) {
+        final char[] chars = string.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    @FunctionalInterface
+    public interface MatchHandler {
+
+        /**
+         * @param patternIndex 模式串下标
+         * @param start        匹配起始位置（包含）
+         * @param end          匹配结束位置（不包含）
+         * @return 是否继续匹配
+         */
+        boolean onMatch(int patternIndex, int start, int end);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.string;
+
+import org.jetbrains.annotations.NotNull;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import java.util.Arrays;
+
+/**
+ * <p>StringMatcher</p>
+ *
+ * <p>预编译的 KMP 子串匹配器，编译后不可变，可在多个线程中复用于任意文本</p>
+ *
+ * <p>创建于 2026/10/18 14:20</p>
+ *
+ * @author ketikai
+ * @version 1.0.1
+ * @since 1.0.0
+ */
+public final class StringMatcher {
+
+    private static final int[] EMPTY_INDEXES = new int[0];
+
+    private final String pattern;
+    private final char[] chars;
+    private final int[] failure;
+
+    private StringMatcher(String pattern) {
+        this.pattern = pattern;
+        this.chars = pattern.toCharArray();
+        final int length = chars.length;
+        this.failure = new int[length];
+        for (int i = 1, j = 0; i < length; i++) {
+            while (j > 0 && chars[i] != chars[j]) {
+                j = failure[j - 1];
+            }
+            if (chars[i] == chars[j]) {
+                j = j + 1;
+            }
+            failure[i] = j;
+        }
+    }
+
+    @NotNull
+    public static StringMatcher compile(@NotNull CharSequence pattern) {
+        AssertUtils.isTrue(StringUtils.isNotEmpty(pattern), "无效的模式串");
+        return new StringMatcher(pattern.toString());
+    }
+
+    @NotNull
+    public String getPattern() {
+        return pattern;
+    }
+
+    public int indexOf(CharSequence text) {
+        return text == null ? -1 : indexOf(text, 0, text.length());
+    }
+
+    public int indexOf(CharSequence text, int from) {
+        return text == null ? -1 : indexOf(text, from, text.length());
+    }
+
+    public int indexOf(CharSequence text, int from, int to) {
+        if (text == null) {
+            return -1;
+        }
+        StringUtils.checkRegion(text, from, to);
+        final char[] chars = this.chars;
+        final int length = chars.length;
+        int matching = 0;
+        for (int i = from; i < to; i++) {
+            final char c = text.charAt(i);
+            while (matching > 0 && c != chars[matching]) {
+                matching = failure[matching - 1];
+            }
+            if (c == chars[matching]) {
+                matching = matching + 1;
+                if (matching == length) {
+                    return i - length + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @NotNull
+    public int[] indexOfAll(CharSequence text) {
+        return text == null ? EMPTY_INDEXES : indexOfAll(text, 0, text.length(), false);
+    }
+
+    @NotNull
+    public int[] indexOfAll(CharSequence text, boolean overlapping) {
+        return text == null ? EMPTY_INDEXES : indexOfAll(text, 0, text.length(), overlapping);
+    }
+
+    @NotNull
+    public int[] indexOfAll(CharSequence text, int from, int to, boolean overlapping) {
+        if (text == null) {
+            return EMPTY_INDEXES;
+        }
+        StringUtils.checkRegion(text, from, to);
+        final char[] chars = this.chars;
+        final int length = chars.length;
+        int[] indexes = EMPTY_INDEXES;
+        int count = 0;
+        int matching = 0;
+        for (int i = from; i < to; i++) {
+            final char c = text.charAt(i);
+            while (matching > 0 && c != chars[matching]) {
+                matching = failure[matching - 1];
+            }
+            if (c == chars[matching]) {
+                matching = matching + 1;
+                if (matching == length) {
+                    if (count == indexes.length) {
+                        indexes = Arrays.copyOf(indexes, Math.max(8, count << 1));
+                    }
+                    indexes[count] = i - length + 1;
+                    count = count + 1;
+                    matching = overlapping ? failure[length - 1] : 0;
+                }
+            }
+        }
+        return count == indexes.length ? indexes : Arrays.copyOf(indexes, count);
+    }
+
+    public int count(CharSequence text) {
+        return text == null ? 0 : count(text, 0, text.length(), false);
+    }
+
+    public int count(CharSequence text, boolean overlapping) {
+        return text == null ? 0 : count(text, 0, text.length(), overlapping);
+    }
+
+    public int count(CharSequence text, int from, int to, boolean overlapping) {
+        if (text == null) {
+            return 0;
+        }
+        StringUtils.checkRegion(text, from, to);
+        final char[] chars = this.chars;
+        final int length = chars.length;
+        if (to - from < length) {
+            return 0;
+        }
+        int count = 0;
+        int matching = 0;
+        for (int i = from; i < to; i++) {
+            final char c = text.charAt(i);
+            while (matching > 0 && c != chars[matching]) {
+                matching = failure[matching - 1];
+            }
+            if (c == chars[matching]) {
+                matching = matching + 1;
+                if (matching == length) {
+                    count = count + 1;
+                    matching = overlapping ? failure[length - 1] : 0;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -23,17 +23,27 @@ package team.idealstate.hyper.core.common.string;
  * <p>创建于 2024/2/4 14:43</p>
  *
  * @author ketikai
- * @version 1.0.0
+ * @version 1.0.4
  * @since 0.0.1
  */
 public abstract class StringUtils {
 
+    private static final int SCAN_MATCHED_LENGTH_LIMIT = 4;
+    private static final int SCAN_WORK_LIMIT = 1024;
+
     public static boolean isBlank(CharSequence charSequence) {
-        if (isEmpty(charSequence)) {
+        return charSequence == null || isBlank(charSequence, 0, charSequence.length());
+    }
+
+    public static boolean isBlank(CharSequence charSequence, int from, int to) {
+        if (charSequence == null) {
             return true;
         }
-        final int length = charSequence.length();
-        for (int i = 0; i < length; i++) {
+        checkRegion(charSequence, from, to);
+        if (charSequence instanceof String) {
+            return isBlank((String) charSequence, from, to);
+        }
+        for (int i = from; i < to; i++) {
             if (!Character.isWhitespace(charSequence.charAt(i))) {
                 return false;
             }
@@ -45,6 +55,10 @@ public abstract class StringUtils {
         return !isBlank(charSequence);
     }
 
+    public static boolean isNotBlank(CharSequence charSequence, int from, int to) {
+        return !isBlank(charSequence, from, to);
+    }
+
     public static boolean isEmpty(CharSequence charSequence) {
         return charSequence == null || charSequence.length() == 0;
     }
@@ -54,24 +68,34 @@ public abstract class StringUtils {
     }
 
     public static boolean isNumeric(CharSequence charSequence) {
-        if (isBlank(charSequence)) {
+        return charSequence != null && isNumeric(charSequence, 0, charSequence.length());
+    }
+
+    public static boolean isNumeric(CharSequence charSequence, int from, int to) {
+        if (charSequence == null) {
+            return false;
+        }
+        checkRegion(charSequence, from, to);
+        if (charSequence instanceof String) {
+            return isNumeric((String) charSequence, from, to);
+        }
+        if (from == to) {
             return false;
         }
-        int length = charSequence.length();
-        char c = charSequence.charAt(0);
-        if (length == 1) {
+        char c = charSequence.charAt(from);
+        if (to - from == 1) {
             return c >= '0' && c <= '9';
         }
         if (c != '-' && (c < '0' || c > '9')) {
             return false;
         }
-        c = charSequence.charAt(length - 1);
+        final int last = to - 1;
+        c = charSequence.charAt(last);
         if (c < '0' || c > '9') {
             return false;
         }
-        length = length - 1;
         boolean dotAlreadyExists = false;
-        for (int i = 1; i < length; i++) {
+        for (int i = from + 1; i < last; i++) {
             c = charSequence.charAt(i);
             if (c == '.') {
                 if (dotAlreadyExists) {
@@ -88,23 +112,28 @@ public abstract class StringUtils {
     }
 
     public static boolean isIntegral(CharSequence charSequence) {
-        if (isBlank(charSequence)) {
+        return charSequence != null && isIntegral(charSequence, 0, charSequence.length());
+    }
+
+    public static boolean isIntegral(CharSequence charSequence, int from, int to) {
+        if (charSequence == null) {
             return false;
         }
-        int length = charSequence.length();
-        char c = charSequence.charAt(0);
-        if (length == 1) {
-            return c >= '0' && c <= '9';
+        checkRegion(charSequence, from, to);
+        if (charSequence instanceof String) {
+            return isIntegral((String) charSequence, from, to);
         }
-        if (c != '-' && (c < '0' || c > '9')) {
+        if (from == to) {
             return false;
         }
-        c = charSequence.charAt(length - 1);
-        if (c < '0' || c > '9') {
+        char c = charSequence.charAt(from);
+        if (to - from == 1) {
+            return c >= '0' && c <= '9';
+        }
+        if (c != '-' && (c < '0' || c > '9')) {
             return false;
         }
-        length = length - 1;
-        for (int i = 1; i < length; i++) {
+        for (int i = from + 1; i < to; i++) {
             c = charSequence.charAt(i);
             if (c < '0' || c > '9') {
                 return false;
@@ -114,14 +143,20 @@ public abstract class StringUtils {
     }
 
     public static int countMatches(CharSequence charSequence, char matched) {
-        if (isEmpty(charSequence)) {
+        return charSequence == null ? 0 : countMatches(charSequence, matched, 0, charSequence.length());
+    }
+
+    public static int countMatches(CharSequence charSequence, char matched, int from, int to) {
+        if (charSequence == null) {
             return 0;
         }
-        final int stringLen = charSequence.length();
+        checkRegion(charSequence, from, to);
+        if (charSequence instanceof String) {
+            return countMatches((String) charSequence, matched, from, to);
+        }
         int count = 0;
-        for (int i = 0; i < stringLen; i++) {
-            char c = charSequence.charAt(i);
-            if (c == matched) {
+        for (int i = from; i < to; i++) {
+            if (charSequence.charAt(i) == matched) {
                 count = count + 1;
             }
         }
@@ -129,28 +164,131 @@ public abstract class StringUtils {
     }
 
     public static int countMatches(CharSequence charSequence, CharSequence matched) {
-        if (isEmpty(charSequence) || isEmpty(matched)) {
+        return charSequence == null ? 0 : countMatches(charSequence, matched, 0, charSequence.length());
+    }
+
+    public static int countMatches(CharSequence charSequence, CharSequence matched, int from, int to) {
+        return countMatches(charSequence, matched, from, to, false);
+    }
+
+    public static int countMatches(CharSequence charSequence, CharSequence matched, boolean overlapping) {
+        return charSequence == null ? 0 : countMatches(charSequence, matched, 0, charSequence.length(), overlapping);
+    }
+
+    public static int countMatches(CharSequence charSequence, CharSequence matched, int from, int to, boolean overlapping) {
+        if (charSequence == null || isEmpty(matched)) {
             return 0;
         }
-        final int stringLen = charSequence.length();
-        final int matchedLen = matched.length();
-        if (stringLen < matchedLen) {
+        checkRegion(charSequence, from, to);
+        if (to - from < matched.length()) {
             return 0;
         }
+        final int matchedLen = matched.length();
+        if (matchedLen == 1) {
+            return countMatches(charSequence, matched.charAt(0), from, to);
+        }
+        if (matchedLen > SCAN_MATCHED_LENGTH_LIMIT && (long) (to - from) * matchedLen > SCAN_WORK_LIMIT) {
+            return StringMatcher.compile(matched).count(charSequence, from, to, overlapping);
+        }
+        final char first = matched.charAt(0);
+        final int last = to - matchedLen;
         int count = 0;
-        int matching = 0;
-        for (int i = 0; i < stringLen; i++) {
-            char c = charSequence.charAt(i);
-            if (c == matched.charAt(matching)) {
-                matching = matching + 1;
-                if (matching >= matchedLen) {
-                    matching = 0;
-                    count = count + 1;
-                }
+        int i = from;
+        while (i <= last) {
+            if (charSequence.charAt(i) == first && regionMatches(charSequence, i + 1, matched, 1, matchedLen - 1)) {
+                count = count + 1;
+                i = i + (overlapping ? 1 : matchedLen);
             } else {
-                matching = 0;
+                i = i + 1;
             }
         }
         return count;
     }
+
+    private static boolean regionMatches(CharSequence charSequence, int offset, CharSequence matched, int matchedOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (charSequence.charAt(offset + i) != matched.charAt(matchedOffset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(String string, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isWhitespace(string.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNumeric(String string, int from, int to) {
+        if (from == to) {
+            return false;
+        }
+        char c = string.charAt(from);
+        if (to - from == 1) {
+            return c >= '0' && c <= '9';
+        }
+        if (c != '-' && (c < '0' || c > '9')) {
+            return false;
+        }
+        final int last = to - 1;
+        c = string.charAt(last);
+        if (c < '0' || c > '9') {
+            return false;
+        }
+        boolean dotAlreadyExists = false;
+        for (int i = from + 1; i < last; i++) {
+            c = string.charAt(i);
+            if (c == '.') {
+                if (dotAlreadyExists) {
+                    return false;
+                }
+                dotAlreadyExists = true;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIntegral(String string, int from, int to) {
+        if (from == to) {
+            return false;
+        }
+        char c = string.charAt(from);
+        if (to - from == 1) {
+            return c >= '0' && c <= '9';
+        }
+        if (c != '-' && (c < '0' || c > '9')) {
+            return false;
+        }
+        for (int i = from + 1; i < to; i++) {
+            c = string.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countMatches(String string, char matched, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (string.charAt(i) == matched) {
+                count = count + 1;
+            }
+        }
+        return count;
+    }
+
+    static void checkRegion(CharSequence charSequence, int from, int to) {
+        if (from < 0 || from > to || to > charSequence.length()) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + charSequence.length());
+        }
+    }
 }
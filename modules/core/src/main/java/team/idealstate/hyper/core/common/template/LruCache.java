@@ -0,0 +1,299 @@
+/*
+ *    hyper-core
+ *    Copyright [2026] [ideal-state]
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.hyper.core.common.template;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.idealstate.hyper.core.common.language.AssertUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * <p>LruCache</p>
+ *
+ * <p>有界的分段 LRU（SLRU）缓存，新条目先进入试用区，再次命中后晋升至保护区，
+ * 只被访问一次的条目不会挤占热点条目；条目按哈希分散到多个独立加锁的分区中</p>
+ *
+ * <p>创建于 2026/10/18 11:45</p>
+ *
+ * @author ketikai
+ * @version 1.0.1
+ * @since 1.0.0
+ */
+public final class LruCache<K, V> {
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final int capacity;
+    private final Partition<K, V>[] partitions;
+    private final int partitionMask;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public LruCache(int capacity) {
+        this(capacity, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public LruCache(int capacity, int concurrencyLevel) {
+        AssertUtils.isTrue(capacity > 0, "容量必须大于 0");
+        AssertUtils.isTrue(concurrencyLevel > 0, "并发级别必须大于 0");
+        int partitionCount = 1;
+        while (partitionCount < concurrencyLevel && (partitionCount << 1) * 8 <= capacity) {
+            partitionCount = partitionCount << 1;
+        }
+        final int partitionCapacity = capacity / partitionCount;
+        final int remainder = capacity % partitionCount;
+        this.capacity = capacity;
+        this.partitions = new Partition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            this.partitions[i] = new Partition<>(i < remainder ? partitionCapacity + 1 : partitionCapacity, evictionCount);
+        }
+        this.partitionMask = partitionCount - 1;
+    }
+
+    @Nullable
+    public V get(@NotNull K key) {
+        AssertUtils.notNull(key, "无效的键");
+        final Partition<K, V> partition = partitionFor(key);
+        final V value;
+        synchronized (partition) {
+            value = partition.get(key);
+        }
+        if (value == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return value;
+    }
+
+    @Nullable
+    public V put(@NotNull K key, @NotNull V value) {
+        AssertUtils.notNull(key, "无效的键");
+        AssertUtils.notNull(value, "无效的值");
+        final Partition<K, V> partition = partitionFor(key);
+        synchronized (partition) {
+            return partition.put(key, value, false);
+        }
+    }
+
+    @Nullable
+    public V putIfAbsent(@NotNull K key, @NotNull V value) {
+        AssertUtils.notNull(key, "无效的键");
+        AssertUtils.notNull(value, "无效的值");
+        final V existing = doPutIfAbsent(key, value);
+        if (existing == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return existing;
+    }
+
+    @NotNull
+    public V computeIfAbsent(@NotNull K key, @NotNull Function<? super K, ? extends V> mappingFunction) {
+        AssertUtils.notNull(mappingFunction, "无效的映射函数");
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = mappingFunction.apply(key);
+        AssertUtils.notNull(value, "无效的值");
+        final V existing = doPutIfAbsent(key, value);
+        return existing == null ? value : existing;
+    }
+
+    /**
+     * 仅当 {@code key} 当前映射到 {@code oldValue} 时将其替换为 {@code newValue}。
+     *
+     * @return 已替换时返回 {@code true}
+     */
+    public boolean replace(@NotNull K key, @NotNull V oldValue, @NotNull V newValue) {
+        AssertUtils.notNull(key, "无效的键");
+        AssertUtils.notNull(oldValue, "无效的值");
+        AssertUtils.notNull(newValue, "无效的值");
+        final Partition<K, V> partition = partitionFor(key);
+        synchronized (partition) {
+            return partition.replace(key, oldValue, newValue);
+        }
+    }
+
+    @Nullable
+    public V remove(@NotNull K key) {
+        AssertUtils.notNull(key, "无效的键");
+        final Partition<K, V> partition = partitionFor(key);
+        synchronized (partition) {
+            return partition.remove(key);
+        }
+    }
+
+    public void clear() {
+        for (Partition<K, V> partition : partitions) {
+            synchronized (partition) {
+                partition.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Partition<K, V> partition : partitions) {
+            synchronized (partition) {
+                size = size + partition.size();
+            }
+        }
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private V doPutIfAbsent(K key, V value) {
+        final Partition<K, V> partition = partitionFor(key);
+        synchronized (partition) {
+            return partition.put(key, value, true);
+        }
+    }
+
+    private Partition<K, V> partitionFor(Object key) {
+        int hash = key.hashCode();
+        hash = hash ^ (hash >>> 16);
+        return partitions[hash & partitionMask];
+    }
+
+    private static final class Partition<K, V> {
+
+        private final LinkedHashMap<K, V> probation;
+        private final LinkedHashMap<K, V> protection;
+        private final int capacity;
+        private final int protectionCapacity;
+        private final LongAdder evictionCount;
+
+        private Partition(int capacity, LongAdder evictionCount) {
+            this.capacity = capacity;
+            this.protectionCapacity = capacity - Math.max(1, capacity / 5);
+            this.probation = new LinkedHashMap<>(Math.min(capacity, 64), 0.75F, true);
+            this.protection = new LinkedHashMap<>(Math.min(protectionCapacity, 64), 0.75F, true);
+            this.evictionCount = evictionCount;
+        }
+
+        private V get(K key) {
+            V value = protection.get(key);
+            if (value != null) {
+                return value;
+            }
+            value = probation.remove(key);
+            if (value != null) {
+                promote(key, value);
+            }
+            return value;
+        }
+
+        private V put(K key, V value, boolean onlyIfAbsent) {
+            V existing = protection.get(key);
+            if (existing != null) {
+                if (!onlyIfAbsent) {
+                    protection.put(key, value);
+                }
+                return existing;
+            }
+            existing = probation.remove(key);
+            if (existing != null) {
+                promote(key, onlyIfAbsent ? existing : value);
+                return existing;
+            }
+            probation.put(key, value);
+            evictIfNecessary();
+            return null;
+        }
+
+        private void promote(K key, V value) {
+            if (protectionCapacity <= 0) {
+                probation.put(key, value);
+                return;
+            }
+            protection.put(key, value);
+            if (protection.size() > protectionCapacity) {
+                Iterator<Map.Entry<K, V>> iterator = protection.entrySet().iterator();
+                Map.Entry<K, V> eldest = iterator.next();
+                iterator.remove();
+                probation.put(eldest.getKey(), eldest.getValue());
+                evictIfNecessary();
+            }
+        }
+
+        private void evictIfNecessary() {
+            if (probation.size() + protection.size() > capacity) {
+                Iterator<V> iterator = probation.values().iterator();
+                iterator.next();
+                iterator.remove();
+                evictionCount.increment();
+            }
+        }
+
+        private boolean replace(K key, V oldValue, V newValue) {
+            V existing = protection.get(key);
+            if (existing != null) {
+                if (!existing.equals(oldValue)) {
+                    return false;
+                }
+                protection.put(key, newValue);
+                return true;
+            }
+            existing = probation.get(key);
+            if (existing == null || !existing.equals(oldValue)) {
+                return false;
+            }
+            probation.put(key, newValue);
+            return true;
+        }
+
+        private V remove(K key) {
+            V value = protection.remove(key);
+            return value == null ? probation.remove(key) : value;
+        }
+
+        private void clear() {
+            probation.clear();
+            protection.clear();
+        }
+
+        private int size() {
+            return probation.size() + protection.size();
+        }
+    }
+}